@@ -8,8 +8,8 @@ import draylar.goml.api.ClaimUtils;
 import draylar.goml.api.PermissionReason;
 import draylar.goml.api.event.ClaimEvents;
 import draylar.goml.block.entity.ClaimAnchorBlockEntity;
+import draylar.goml.other.GomlPlayer;
 import draylar.goml.registry.GOMLBlocks;
-import draylar.goml.registry.GOMLTags;
 import net.fabricmc.fabric.api.event.Event;
 import net.fabricmc.fabric.api.event.player.*;
 import net.minecraft.entity.Tameable;
@@ -22,6 +22,7 @@ import net.minecraft.util.ActionResult;
 import net.minecraft.util.Hand;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
 import net.minecraft.registry.Registry;
 import org.apache.commons.lang3.mutable.MutableObject;
 import org.jetbrains.annotations.ApiStatus;
@@ -51,7 +52,6 @@ public class EventHandlers {
         registerInteractBlockCallback();
         registerAttackEntityCallback();
         registerInteractEntityCallback();
-        registerAnchorAttackCallback();
     }
 
     private static void registerInteractEntityCallback() {
@@ -60,8 +60,7 @@ public class EventHandlers {
                 return ActionResult.PASS;
             }
 
-            if (GetOffMyLawn.CONFIG.canInteract(entity)
-                    || entity.getType().isIn(GOMLTags.ALLOWED_INTERACTIONS_ENTITY)) {
+            if (GetOffMyLawn.CONFIG.canInteract(entity)) {
                 return ActionResult.PASS;
             }
 
@@ -102,8 +101,7 @@ public class EventHandlers {
                 }
             }
 
-            Selection<Entry<ClaimBox, Claim>> claimsFound = ClaimUtils.getClaimsAt(world, entity.getBlockPos());
-            return testPermission(claimsFound, playerEntity, hand, entity.getBlockPos(), PermissionReason.ENTITY_PROTECTED);
+            return testPermission(world, playerEntity, hand, entity.getBlockPos(), PermissionReason.ENTITY_PROTECTED);
         });
     }
 
@@ -116,20 +114,15 @@ public class EventHandlers {
     private static void registerInteractBlockCallback() {
         UseBlockCallback.EVENT.register(GOML_PHASE, (playerEntity, world, hand, blockHitResult) -> {
             if (!(playerEntity.getStackInHand(hand).getItem() instanceof BlockItem)) {
-                var blockState = world.getBlockState(blockHitResult.getBlockPos());
-
-                if (GetOffMyLawn.CONFIG.canInteract(blockState.getBlock()) || blockState.isIn(GOMLTags.ALLOWED_INTERACTIONS_BLOCKS)) {
+                if (GetOffMyLawn.CONFIG.canInteract(world.getBlockState(blockHitResult.getBlockPos()).getBlock())) {
                     return ActionResult.PASS;
                 }
             }
 
-            var claimsFound = ClaimUtils.getClaimsAt(world, blockHitResult.getBlockPos());
-
-            var ac = testPermission(claimsFound, playerEntity, hand, blockHitResult.getBlockPos(), PermissionReason.AREA_PROTECTED);
+            var ac = testPermission(world, playerEntity, hand, blockHitResult.getBlockPos(), ClaimUtils.getBlockUseReason(world, blockHitResult.getBlockPos()));
 
             if (ac == ActionResult.PASS) {
-                var claimsFound2 = ClaimUtils.getClaimsAt(world, blockHitResult.getBlockPos().offset(blockHitResult.getSide()));
-                return testPermission(claimsFound2, playerEntity, hand, blockHitResult.getBlockPos().offset(blockHitResult.getSide()), PermissionReason.AREA_PROTECTED);
+                return testPermission(world, playerEntity, hand, blockHitResult.getBlockPos().offset(blockHitResult.getSide()), PermissionReason.AREA_PROTECTED);
             }
 
             return ac;
@@ -138,43 +131,59 @@ public class EventHandlers {
 
     private static void registerBreakBlockCallback() {
         AttackBlockCallback.EVENT.register(GOML_PHASE, (playerEntity, world, hand, blockPos, direction) -> {
-            Selection<Entry<ClaimBox, Claim>> claimsFound = ClaimUtils.getClaimsAt(world, blockPos);
-            return testPermission(claimsFound, playerEntity, hand, blockPos, PermissionReason.BLOCK_PROTECTED);
+            if (world.getBlockEntity(blockPos) instanceof ClaimAnchorBlockEntity be && be.getClaim() != null
+                    && !(be.getClaim().isOwner(playerEntity) || ClaimUtils.isInAdminMode(playerEntity))) {
+                return ActionResult.FAIL;
+            }
+
+            return testPermission(world, playerEntity, hand, blockPos, PermissionReason.BLOCK_PROTECTED);
         });
 
         PlayerBlockBreakEvents.BEFORE.register(GOML_PHASE, (world, player, pos, state, blockEntity) -> {
-            Selection<Entry<ClaimBox, Claim>> claimsFound = ClaimUtils.getClaimsAt(world, pos);
-            ActionResult result = testPermission(claimsFound, player, Hand.MAIN_HAND, pos, PermissionReason.BLOCK_PROTECTED);
+            ActionResult result = testPermission(world, player, Hand.MAIN_HAND, pos, PermissionReason.BLOCK_PROTECTED);
             return !result.equals(ActionResult.FAIL);
         });
     }
 
-    private static void registerAnchorAttackCallback() {
-        AttackBlockCallback.EVENT.register(GOML_PHASE, (playerEntity, world, hand, blockPos, direction) -> {
-            var be = world.getBlockEntity(blockPos);
+    /**
+     * Tests permission for a player action at provided position.
+     * <p>Claim lookups are shared with other callbacks handling same position during current tick.
+     */
+    @ApiStatus.Internal
+    public static ActionResult testPermission(World world, PlayerEntity player, Hand hand, BlockPos pos, PermissionReason reason) {
+        if (!(player instanceof GomlPlayer gomlPlayer)) {
+            return testPermission(ClaimUtils.getClaimsAt(world, pos), player, hand, pos, reason);
+        }
 
-            if (be instanceof ClaimAnchorBlockEntity) {
-                if (!(((ClaimAnchorBlockEntity) be).getClaim().isOwner(playerEntity) || ClaimUtils.isInAdminMode(playerEntity))) {
-                    return ActionResult.FAIL;
-                }
+        for (var claim : gomlPlayer.goml_getInteractionMemo().getClaims(world, pos)) {
+            if (!claim.hasPermission(player, reason)) {
+                return onPermissionDenied(player, hand, pos, reason);
             }
+        }
 
-            return ActionResult.PASS;
-        });
+        return ActionResult.PASS;
     }
 
     @ApiStatus.Internal
     public static ActionResult testPermission(Selection<Entry<ClaimBox, Claim>> claims, PlayerEntity player, Hand hand, BlockPos pos, PermissionReason reason) {
         if (!claims.isEmpty()) {
-            boolean noPermission = claims.anyMatch((Entry<ClaimBox, Claim> boxInfo) -> !boxInfo.getValue().hasPermission(player));
+            boolean noPermission = claims.anyMatch((Entry<ClaimBox, Claim> boxInfo) -> !boxInfo.getValue().hasPermission(player, reason));
 
-            if (noPermission && !ClaimUtils.isInAdminMode(player)) {
-                ActionResult check = ClaimEvents.PERMISSION_DENIED.invoker().check(player, player.getWorld(), hand, pos, reason);
+            if (noPermission) {
+                return onPermissionDenied(player, hand, pos, reason);
+            }
+        }
 
-                if (check.isAccepted() || check.equals(ActionResult.PASS)) {
-                    player.sendMessage(reason.getReason(), true);
-                    return ActionResult.FAIL;
-                }
+        return ActionResult.PASS;
+    }
+
+    private static ActionResult onPermissionDenied(PlayerEntity player, Hand hand, BlockPos pos, PermissionReason reason) {
+        if (!ClaimUtils.isInAdminMode(player)) {
+            ActionResult check = ClaimEvents.PERMISSION_DENIED.invoker().check(player, player.getWorld(), hand, pos, reason);
+
+            if (check.isAccepted() || check.equals(ActionResult.PASS)) {
+                player.sendMessage(reason.getReason(), true);
+                return ActionResult.FAIL;
             }
         }
 
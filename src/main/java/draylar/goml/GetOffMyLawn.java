@@ -4,7 +4,6 @@ import org.ladysnake.cca.api.v3.component.ComponentKey;
 import org.ladysnake.cca.api.v3.component.ComponentRegistryV3;
 import org.ladysnake.cca.api.v3.world.WorldComponentFactoryRegistry;
 import org.ladysnake.cca.api.v3.world.WorldComponentInitializer;
-import draylar.goml.api.Claim;
 import draylar.goml.api.GomlProtectionProvider;
 import draylar.goml.cca.ClaimComponent;
 import draylar.goml.cca.WorldClaimComponent;
@@ -27,15 +26,11 @@ import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.fabricmc.loader.api.FabricLoader;
 import net.minecraft.item.ItemGroup;
 import net.minecraft.item.ItemStack;
-import net.minecraft.server.world.ServerWorld;
 import net.minecraft.text.Text;
 import net.minecraft.util.Identifier;
-import net.minecraft.util.math.ChunkSectionPos;
-import net.minecraft.world.chunk.WorldChunk;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.function.Consumer;
 
 public class GetOffMyLawn implements ModInitializer, WorldComponentInitializer {
 
@@ -75,7 +70,13 @@ public class GetOffMyLawn implements ModInitializer, WorldComponentInitializer {
             GetOffMyLawn.CONFIG = GOMLConfig.loadOrCreateConfig();
         });
 
-        ServerTickEvents.END_WORLD_TICK.register((world) -> CLAIM.get(world).getClaims().values().forEach(x -> x.tick(world)));
+        ServerLifecycleEvents.END_DATA_PACK_RELOAD.register((server, resourceManager, success) -> {
+            if (success) {
+                GetOffMyLawn.CONFIG.compileInteractionLists();
+            }
+        });
+
+        ServerTickEvents.END_WORLD_TICK.register((world) -> CLAIM.get(world).internal_tick(world));
 
         VanillaTeamGroups.init();
         if (FabricLoader.getInstance().isModLoaded("argonauts")) {
@@ -86,24 +87,12 @@ public class GetOffMyLawn implements ModInitializer, WorldComponentInitializer {
             ServerLifecycleEvents.SERVER_STARTED.register(DynmapCompat::init);
         }
 
-        ServerChunkEvents.CHUNK_LOAD.register((world, server) -> GetOffMyLawn.onChunkEvent(world, server, Claim::internal_incrementChunks));
-        ServerChunkEvents.CHUNK_UNLOAD.register((world, server) -> GetOffMyLawn.onChunkEvent(world, server, Claim::internal_decrementChunks));
+        ServerChunkEvents.CHUNK_LOAD.register((world, chunk) -> CLAIM.get(world).internal_onChunkLoaded(chunk.getPos()));
+        ServerChunkEvents.CHUNK_UNLOAD.register((world, chunk) -> CLAIM.get(world).internal_onChunkUnloaded(chunk.getPos()));
     }
 
     @Override
     public void registerWorldComponentFactories(WorldComponentFactoryRegistry registry) {
         registry.register(CLAIM, WorldClaimComponent::new);
     }
-
-    private static void onChunkEvent(ServerWorld world, WorldChunk chunk, Consumer<Claim> chunkHandler) {
-        CLAIM.get(world).getClaims().entries().filter(x -> {
-            var minX = ChunkSectionPos.getSectionCoord(x.getKey().toBox().x1());
-            var minZ = ChunkSectionPos.getSectionCoord(x.getKey().toBox().z1());
-
-            var maxX = ChunkSectionPos.getSectionCoord(x.getKey().toBox().x2());
-            var maxZ = ChunkSectionPos.getSectionCoord(x.getKey().toBox().z2());
-
-            return (minX <= chunk.getPos().x && maxX >= chunk.getPos().x && minZ <= chunk.getPos().z && maxZ >= chunk.getPos().z);
-        }).forEach(x -> chunkHandler.accept(x.getValue()));
-    }
 }
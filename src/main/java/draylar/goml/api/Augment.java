@@ -25,10 +25,21 @@ public interface Augment {
 
     }
 
+    /**
+     * Called once every {@link #getTickInterval()} ticks while claim has loaded chunks and at least one player inside.
+     * Only called if {@link #ticks()} returns true.
+     * <p>Calls are scheduled at claim's phase, not at world time divisible by interval.
+     * If server runs out of claim tick budget, call can be deferred to later tick, but it won't be skipped.
+     */
     default void tick(Claim claim, World world) {
 
     }
 
+    /**
+     * Called once every {@link #getTickInterval()} ticks for each player inside the claim and right after player enters it.
+     * Only called if {@link #ticks()} returns true.
+     * <p>Effects applied here should last at least one interval, as player isn't ticked in between.
+     */
     default void playerTick(Claim claim, PlayerEntity player) {
 
     }
@@ -41,6 +52,15 @@ public interface Augment {
         return false;
     }
 
+    /**
+     * Interval (in ticks) between calls of {@link #tick(Claim, World)} and {@link #playerTick(Claim, PlayerEntity)}.
+     * <p>Calls are offset per claim to spread the load, so they don't align with world time.
+     * Player tick is also called right after player enters the claim.
+     */
+    default int getTickInterval() {
+        return 1;
+    }
+
     default boolean canPlace(Claim claim, World world, BlockPos pos) {
         return true;
     }
@@ -6,16 +6,20 @@ import draylar.goml.api.group.PlayerGroup;
 import draylar.goml.api.group.PlayerGroupProvider;
 import draylar.goml.block.ClaimAnchorBlock;
 import draylar.goml.block.entity.ClaimAnchorBlockEntity;
+import draylar.goml.other.AugmentScheduler;
 import draylar.goml.other.LegacyNbtHelper;
 import draylar.goml.registry.GOMLAugments;
 import draylar.goml.registry.GOMLBlocks;
 import draylar.goml.registry.GOMLTextures;
 import draylar.goml.ui.AdminAugmentGui;
 import draylar.goml.ui.ClaimAugmentGui;
+import draylar.goml.ui.ClaimPermissionsGui;
 import draylar.goml.ui.ClaimPlayerListGui;
 import draylar.goml.ui.PagedGui;
 import eu.pb4.sgui.api.elements.GuiElementBuilder;
 import eu.pb4.sgui.api.gui.SimpleGui;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
@@ -50,6 +54,7 @@ public class Claim {
     public static final String TYPE_KEY = "Type";
     public static final String AUGMENTS_KEY = "Augments";
     public static final String CUSTOM_DATA_KEY = "CustomData";
+    public static final String PERMISSIONS_KEY = "Permissions";
     private static final String BOX_KEY = "Box";
 
     private final Set<UUID> owners = new HashSet<>();
@@ -69,10 +74,22 @@ public class Claim {
     private ClaimBox claimBox;
     private int chunksLoadedCount;
     private final Map<BlockPos, Augment> augments = new HashMap<>();
+    private final Reference2IntOpenHashMap<Augment> augmentTypes = new Reference2IntOpenHashMap<>();
+    private final Map<PermissionReason, EnumSet<ClaimRole>> permissions = new EnumMap<>(PermissionReason.class);
+    private int permissionFlags;
 
-    private final List<PlayerEntity> previousTickPlayers = new ArrayList<>();
+    private final Set<PlayerEntity> previousTickPlayers = new ReferenceOpenHashSet<>();
     private boolean destroyed = false;
     private boolean updatable = false;
+    private int tickPhase = -1;
+
+    /**
+     * Incremented every time membership of any claim or cache-able group changes.
+     * Cached relations computed with older value are treated as stale.
+     */
+    private static long membershipEpoch = 0;
+    private final Map<Claim, Boolean> relationCache = new WeakHashMap<>();
+    private long relationCacheEpoch = -1;
 
     @ApiStatus.Internal
     public Claim(MinecraftServer server, Set<UUID> owners, Set<UUID> trusted, BlockPos origin) {
@@ -80,6 +97,11 @@ public class Claim {
         this.owners.addAll(owners);
         this.trusted.addAll(trusted);
         this.origin = origin;
+
+        for (var reason : PermissionReason.values()) {
+            this.permissions.put(reason, EnumSet.of(ClaimRole.OWNER, ClaimRole.TRUSTED, ClaimRole.GROUP));
+        }
+        this.compilePermissions();
     }
 
     public boolean isOwner(PlayerEntity player) {
@@ -95,10 +117,31 @@ public class Claim {
     }
 
     public void addOwner(UUID id) {
-        this.owners.add(id);
+        if (this.owners.add(id)) {
+            internal_onMembershipChanged();
+            var world = this.world != null ? getWorldInstance(this.server) : null;
+            if (world != null) {
+                GetOffMyLawn.CLAIM.get(world).internal_onOwnerAdded(this, id);
+            }
+        }
         onUpdated();
     }
 
+    public void removeOwner(PlayerEntity player) {
+        removeOwner(player.getUuid());
+    }
+
+    public void removeOwner(UUID id) {
+        if (this.owners.remove(id)) {
+            internal_onMembershipChanged();
+            var world = this.world != null ? getWorldInstance(this.server) : null;
+            if (world != null) {
+                GetOffMyLawn.CLAIM.get(world).internal_onOwnerRemoved(this, id);
+            }
+            onUpdated();
+        }
+    }
+
     public boolean hasPermission(PlayerEntity player) {
         return hasPermission(player.getUuid());
     }
@@ -116,18 +159,90 @@ public class Claim {
         return owners.contains(uuid) || trusted.contains(uuid);
     }
 
+    /**
+     * Returns the role player with provided {@link UUID} has in this claim.
+     */
+    public ClaimRole getRole(UUID uuid) {
+        if (this.owners.contains(uuid)) {
+            return ClaimRole.OWNER;
+        } else if (this.trusted.contains(uuid)) {
+            return ClaimRole.TRUSTED;
+        }
+
+        for (var group : this.getGroups()) {
+            if (group.isPartOf(uuid)) {
+                return ClaimRole.GROUP;
+            }
+        }
+        return ClaimRole.PUBLIC;
+    }
+
+    /**
+     * Checks if player is allowed to perform action protected with provided {@link PermissionReason} in this claim.
+     * <p>This only checks flags of the claim, admin mode needs to be checked separately.
+     */
+    public boolean hasPermission(PlayerEntity player, PermissionReason reason) {
+        return hasPermission(player.getUuid(), reason);
+    }
+
+    public boolean hasPermission(UUID uuid, PermissionReason reason) {
+        if ((this.permissionFlags & permissionBit(reason, ClaimRole.PUBLIC)) != 0) {
+            return true;
+        }
+
+        return (this.permissionFlags & permissionBit(reason, this.getRole(uuid))) != 0;
+    }
+
+    public boolean isAllowed(PermissionReason reason, ClaimRole role) {
+        return (this.permissionFlags & permissionBit(reason, role)) != 0;
+    }
+
+    /**
+     * Changes if players with provided role can perform actions protected by provided {@link PermissionReason}.
+     * <p>Owners are always allowed.
+     */
+    public void setAllowed(PermissionReason reason, ClaimRole role, boolean value) {
+        if (role == ClaimRole.OWNER) {
+            return;
+        }
+        var roles = this.permissions.get(reason);
+        if (value ? roles.add(role) : roles.remove(role)) {
+            this.compilePermissions();
+            onUpdated();
+        }
+    }
+
+    private void compilePermissions() {
+        int flags = 0;
+        for (var entry : this.permissions.entrySet()) {
+            // Owners can't be locked out of their own claims
+            entry.getValue().add(ClaimRole.OWNER);
+            for (var role : entry.getValue()) {
+                flags |= permissionBit(entry.getKey(), role);
+            }
+        }
+        this.permissionFlags = flags;
+    }
+
+    private static int permissionBit(PermissionReason reason, ClaimRole role) {
+        return 1 << (reason.ordinal() * ClaimRole.values().length + role.ordinal());
+    }
+
     public void trust(PlayerEntity player) {
         trust(player.getUuid());
     }
 
     public void trust(UUID uuid) {
-        trusted.add(uuid);
+        if (trusted.add(uuid)) {
+            internal_onMembershipChanged();
+        }
         onUpdated();
     }
 
     public void trust(PlayerGroup group) {
         getGroups().add(group);
         group.addClaim(this);
+        internal_onMembershipChanged();
     }
 
     public void untrust(PlayerEntity player) {
@@ -137,13 +252,84 @@ public class Claim {
     public void untrust(PlayerGroup group) {
         getGroups().remove(group);
         group.removeClaim(this);
+        internal_onMembershipChanged();
     }
 
     public void untrust(UUID uuid) {
-        trusted.remove(uuid);
+        if (trusted.remove(uuid)) {
+            internal_onMembershipChanged();
+        }
         onUpdated();
     }
 
+    /**
+     * Checks if any owner, trusted player or trusted group member of other claim has permission in this one.
+     * <p>Result is cached per claim pair and recomputed after membership of any claim (or player group) changes.
+     *
+     * @param other claim to check members of
+     * @return true if members of other claim can modify this one
+     */
+    public boolean hasPermission(Claim other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (this.relationCacheEpoch != membershipEpoch) {
+            this.relationCache.clear();
+            this.relationCacheEpoch = membershipEpoch;
+        }
+
+        var cached = this.relationCache.get(other);
+        if (cached != null) {
+            return cached;
+        }
+
+        var value = hasPermission(other.owners) || hasPermission(other.trusted) || hasGroupPermission(other);
+
+        if (this.canCacheRelations() && other.canCacheRelations()) {
+            this.relationCache.put(other, value);
+        }
+        return value;
+    }
+
+    private boolean hasGroupPermission(Claim other) {
+        var groups = this.getGroups();
+        for (var group : other.getGroups()) {
+            if (groups.contains(group)) {
+                return true;
+            }
+
+            for (var member : group.getMembers()) {
+                if (hasPermission(member.profile().getId())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean canCacheRelations() {
+        for (var group : this.getGroups()) {
+            if (!group.reportsMembershipChanges()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Marks all cached claim relations as outdated. Should be called when members of any player group change.
+     */
+    @ApiStatus.Internal
+    public static void internal_onMembershipChanged() {
+        membershipEpoch++;
+    }
+
+    @ApiStatus.Internal
+    public static long internal_getMembershipEpoch() {
+        return membershipEpoch;
+    }
+
     /**
      * Returns the {@link UUID}s of the owners of the claim.
      *
@@ -231,6 +417,17 @@ public class Claim {
 
         nbt.put(CUSTOM_DATA_KEY, customData);
 
+        var permissions = new NbtCompound();
+
+        for (var entry : this.permissions.entrySet()) {
+            var roles = new NbtList();
+            for (var role : entry.getValue()) {
+                roles.add(NbtString.of(role.getName()));
+            }
+            permissions.put(entry.getKey().getName(), roles);
+        }
+
+        nbt.put(PERMISSIONS_KEY, permissions);
 
         var augments = new NbtList();
 
@@ -298,6 +495,25 @@ public class Claim {
             }
         }
 
+        if (nbt.contains(PERMISSIONS_KEY, NbtElement.COMPOUND_TYPE)) {
+            var permissions = nbt.getCompound(PERMISSIONS_KEY);
+
+            for (var key : permissions.getKeys()) {
+                var reason = PermissionReason.byName(key);
+                if (reason != null) {
+                    var roles = EnumSet.noneOf(ClaimRole.class);
+                    for (var role : permissions.getList(key, NbtElement.STRING_TYPE)) {
+                        var value = ClaimRole.byName(role.asString());
+                        if (value != null) {
+                            roles.add(value);
+                        }
+                    }
+                    claim.permissions.put(reason, roles);
+                }
+            }
+            claim.compilePermissions();
+        }
+
         if (version == 0) {
             claim.claimBox = ClaimBox.EMPTY;
         } else {
@@ -310,7 +526,11 @@ public class Claim {
             var type = GOMLAugments.get(Identifier.tryParse(value.getString("Type")));
 
             if (pos != null && type != null) {
-                claim.augments.put(pos, type);
+                var previous = claim.augments.put(pos, type);
+                if (previous != null) {
+                    claim.countAugment(previous, -1);
+                }
+                claim.countAugment(type, 1);
             }
         }
 
@@ -404,6 +624,14 @@ public class Claim {
                 })
         );
 
+        gui.addSlot(new GuiElementBuilder(Items.IRON_DOOR)
+                .setName(Text.translatable("text.goml.gui.claim.permissions").formatted(Formatting.WHITE))
+                .setCallback((x, y, z) -> {
+                    PagedGui.playClickSound(player);
+                    new ClaimPermissionsGui(player, this, ClaimUtils.isInAdminMode(player) || this.isOwner(player), () -> openUi(player));
+                })
+        );
+
         if (this.type == GOMLBlocks.ADMIN_CLAIM_ANCHOR.getFirst()) {
             gui.addSlot(new GuiElementBuilder(Items.PLAYER_HEAD)
                     .setName(Text.translatable("text.goml.gui.admin_settings").formatted(Formatting.WHITE))
@@ -461,6 +689,9 @@ public class Claim {
     @ApiStatus.Internal
     public void internal_incrementChunks() {
         this.chunksLoadedCount++;
+        if (this.chunksLoadedCount == 1) {
+            this.updateTickState();
+        }
     }
 
     @ApiStatus.Internal
@@ -468,6 +699,19 @@ public class Claim {
         this.chunksLoadedCount--;
         if (this.chunksLoadedCount == 0) {
             this.clearTickedPlayers();
+            this.updateTickState();
+        }
+    }
+
+    @ApiStatus.Internal
+    public boolean internal_isTickable() {
+        return !this.destroyed && this.chunksLoadedCount > 0 && !this.augments.isEmpty();
+    }
+
+    private void updateTickState() {
+        var world = this.world != null ? getWorldInstance(this.server) : null;
+        if (world != null) {
+            GetOffMyLawn.CLAIM.get(world).internal_updateTickState(this);
         }
     }
 
@@ -479,17 +723,20 @@ public class Claim {
         var maxX = ChunkSectionPos.getSectionCoord(this.claimBox.toBox().x2());
         var maxZ = ChunkSectionPos.getSectionCoord(this.claimBox.toBox().z2());
 
+        var count = 0;
         for (var x = minX; x <= maxX; x++) {
             for (var z = minZ; z <= maxZ; z++) {
                 if (world.isChunkLoaded(x, z)) {
-                    this.chunksLoadedCount++;
+                    count++;
                 }
             }
         }
+        this.chunksLoadedCount = count;
 
         if (this.chunksLoadedCount == 0) {
             this.clearTickedPlayers();
         }
+        this.updateTickState();
     }
 
     private void clearTickedPlayers() {
@@ -502,23 +749,40 @@ public class Claim {
                     }
                 }
             }
+            this.previousTickPlayers.clear();
         }
     }
 
     public void addAugment(BlockPos pos, Augment augment) {
-        this.augments.put(pos, augment);
+        var wasEmpty = this.augments.isEmpty();
+        var previous = this.augments.put(pos, augment);
+        if (previous != null && this.countAugment(previous, -1)) {
+            this.updateAugmentIndex(previous, false);
+        }
+        if (this.countAugment(augment, 1)) {
+            this.updateAugmentIndex(augment, true);
+        }
         for (var player : this.previousTickPlayers) {
             augment.onPlayerEnter(this, player);
         }
+        if (wasEmpty) {
+            this.updateTickState();
+        }
         onUpdated();
     }
 
     public void removeAugment(BlockPos pos) {
         var augment = this.augments.remove(pos);
         if (augment != null) {
+            if (this.countAugment(augment, -1)) {
+                this.updateAugmentIndex(augment, false);
+            }
             for (var player : this.previousTickPlayers) {
                 augment.onPlayerExit(this, player);
             }
+            if (this.augments.isEmpty()) {
+                this.updateTickState();
+            }
             onUpdated();
         }
     }
@@ -528,12 +792,33 @@ public class Claim {
     }
 
     public boolean hasAugment(Augment augment) {
-        for (var a : this.augments.values()) {
-            if (a == augment) {
-                return true;
-            }
+        return this.augmentTypes.getInt(augment) > 0;
+    }
+
+    /**
+     * Returns types of augments this claim has.
+     */
+    public Set<Augment> getAugmentTypes() {
+        return Collections.unmodifiableSet(this.augmentTypes.keySet());
+    }
+
+    /**
+     * Updates amount of augments of provided type. Returns true if claim gained or lost that type.
+     */
+    private boolean countAugment(Augment augment, int change) {
+        var count = this.augmentTypes.addTo(augment, change) + change;
+        if (count <= 0) {
+            this.augmentTypes.removeInt(augment);
+            return true;
+        }
+        return count == change;
+    }
+
+    private void updateAugmentIndex(Augment augment, boolean present) {
+        var world = this.world != null ? getWorldInstance(this.server) : null;
+        if (world != null) {
+            GetOffMyLawn.CLAIM.get(world).internal_updateAugmentIndex(this, augment, present);
         }
-        return false;
     }
 
     public Map<BlockPos, Augment> getAugments() {
@@ -563,45 +848,94 @@ public class Claim {
         return world.getPlayers(x -> x.getBoundingBox().intersects(box));
     }
 
+    /**
+     * Ticks augments of this claim, including enter, exit and per player handling of players inside.
+     * <p>Claims in the world are ticked by their {@link draylar.goml.cca.ClaimComponent}, which handles players separately,
+     * so this only needs to be called for claims ticked manually.
+     */
     public void tick(ServerWorld world) {
+        this.internal_tick(world, world.getTime());
+
         if (this.chunksLoadedCount > 0) {
             var box = this.claimBox.minecraftBox();
             var playersInClaim = world.getPlayers(x -> x.getBoundingBox().intersects(box));
 
-            // Tick all augments
-            for (var augment : this.augments.values()) {
+            for (var player : new ArrayList<>(this.previousTickPlayers)) {
+                if (!playersInClaim.contains(player)) {
+                    this.internal_onPlayerExit(player);
+                }
+            }
 
-                if (augment != null && augment.isEnabled(this, world)) {
-                    if (augment.ticks()) {
-                        augment.tick(this, world);
-                        for (var playerEntity : playersInClaim) {
-                            augment.playerTick(this, playerEntity);
-                        }
-                    }
+            for (var player : playersInClaim) {
+                this.internal_playerTick(player, this.internal_onPlayerEnter(player));
+            }
+        }
+    }
 
-                    // Enter/Exit behavior
-                    for (var playerEntity : playersInClaim) {
-                        // this player was NOT in the claim last tick, call entry method
-                        if (!this.previousTickPlayers.contains(playerEntity)) {
-                            augment.onPlayerEnter(this, playerEntity);
-                        }
-                    }
+    /**
+     * Ticks augments due at provided time. Used when tick got deferred, so augments don't skip it.
+     */
+    @ApiStatus.Internal
+    public void internal_tick(ServerWorld world, long time) {
+        if (this.chunksLoadedCount > 0) {
+            for (var augment : this.augments.values()) {
+                if (augment != null && augment.ticks() && AugmentScheduler.isDue(augment, time, this.tickPhase) && augment.isEnabled(this, world)) {
+                    augment.tick(this, world);
+                }
+            }
+        }
+    }
 
-                    // Tick exit behavior
-                    for (var player : this.previousTickPlayers) {
-                        if (!playersInClaim.contains(player)) {
-                            augment.onPlayerExit(this, player);
-                        }
-                    }
+    /**
+     * @return true if player wasn't inside before
+     */
+    @ApiStatus.Internal
+    public boolean internal_onPlayerEnter(PlayerEntity player) {
+        if (this.chunksLoadedCount > 0 && this.previousTickPlayers.add(player)) {
+            for (var augment : this.augments.values()) {
+                if (augment != null && augment.isEnabled(this, player.getWorld())) {
+                    augment.onPlayerEnter(this, player);
                 }
             }
+            return true;
+        }
+        return false;
+    }
 
-            // Reset players in claim
-            this.previousTickPlayers.clear();
-            this.previousTickPlayers.addAll(playersInClaim);
+    @ApiStatus.Internal
+    public void internal_onPlayerExit(PlayerEntity player) {
+        if (this.previousTickPlayers.remove(player)) {
+            for (var augment : this.augments.values()) {
+                if (augment != null && augment.isEnabled(this, player.getWorld())) {
+                    augment.onPlayerExit(this, player);
+                }
+            }
+        }
+    }
+
+    @ApiStatus.Internal
+    public void internal_playerTick(PlayerEntity player, boolean justEntered) {
+        if (this.chunksLoadedCount > 0) {
+            var time = player.getWorld().getTime();
+            for (var augment : this.augments.values()) {
+                if (augment != null && augment.ticks() && (justEntered || AugmentScheduler.isDue(augment, time, this.tickPhase))
+                        && augment.isEnabled(this, player.getWorld())) {
+                    augment.playerTick(this, player);
+                }
+            }
         }
     }
 
+    @ApiStatus.Internal
+    public int internal_getTickPhase() {
+        return this.tickPhase;
+    }
+
+    @ApiStatus.Internal
+    public void internal_setTickPhase(int phase) {
+        this.tickPhase = phase;
+    }
+
     public Collection<PlayerGroup> getGroups() {
         var g = this.trustedGroups;
         if (g == null) {
@@ -635,6 +969,9 @@ public class Claim {
             this.destroyed = true;
             ClaimEvents.CLAIM_DESTROYED.invoker().onEvent(this);
             this.clearTickedPlayers();
+            if (world != null) {
+                GetOffMyLawn.CLAIM.get(world).internal_queueRemoval(this);
+            }
         }
     }
 
@@ -41,6 +41,15 @@ public record ClaimBox(com.jamieswhiteshirt.rtree3i.Box rtree3iBox, Box minecraf
         return this.rtree3iBox;
     }
 
+    public boolean contains(BlockPos pos) {
+        return this.contains(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    public boolean contains(int x, int y, int z) {
+        var box = this.rtree3iBox;
+        return box.x1() <= x && x < box.x2() && box.y1() <= y && y < box.y2() && box.z1() <= z && z < box.z2();
+    }
+
     public BlockPos getOrigin() {
         return this.origin;
     }
@@ -0,0 +1,38 @@
+package draylar.goml.api;
+
+import net.minecraft.text.Text;
+
+/**
+ * Relation of a player to a {@link Claim}, used to resolve per-claim permission flags.
+ */
+public enum ClaimRole {
+    OWNER("owner"),
+    TRUSTED("trusted"),
+    GROUP("group"),
+    PUBLIC("public");
+
+    private final String name;
+    private final Text displayName;
+
+    ClaimRole(String name) {
+        this.name = name;
+        this.displayName = Text.translatable("text.goml.role." + name);
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public Text getDisplayName() {
+        return this.displayName;
+    }
+
+    public static ClaimRole byName(String name) {
+        for (var role : values()) {
+            if (role.name.equals(name)) {
+                return role;
+            }
+        }
+        return null;
+    }
+}
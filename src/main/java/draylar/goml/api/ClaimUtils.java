@@ -8,6 +8,7 @@ import draylar.goml.GetOffMyLawn;
 import draylar.goml.api.event.ClaimEvents;
 import draylar.goml.block.augment.ExplosionControllerAugmentBlock;
 import draylar.goml.block.entity.ClaimAnchorBlockEntity;
+import draylar.goml.other.ClaimSectionCache;
 import draylar.goml.other.GomlPlayer;
 import draylar.goml.other.OriginOwner;
 import draylar.goml.other.StatusEnum;
@@ -22,9 +23,12 @@ import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.entity.passive.TameableEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.projectile.ProjectileEntity;
+import net.minecraft.inventory.Inventory;
 import net.minecraft.registry.Registries;
+import net.minecraft.registry.tag.BlockTags;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.text.Text;
 import net.minecraft.util.ActionResult;
 import net.minecraft.util.Formatting;
@@ -40,6 +44,7 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 public class ClaimUtils {
+    private static final Claim[] NO_CLAIMS = new Claim[0];
 
     /**
      * Returns all claims at the given position in the given world.
@@ -53,6 +58,19 @@ public class ClaimUtils {
         return GetOffMyLawn.CLAIM.get(world).getClaims().entries(box -> box.contains(checkBox));
     }
 
+    /**
+     * Returns all claims with augment of given type at the given position.
+     * Only checks claims that have this augment, so it's cheap for augments that are rarely used.
+     */
+    public static Selection<Entry<ClaimBox, Claim>> getClaimsWithAugmentAt(WorldView world, BlockPos pos, Augment augment) {
+        Box checkBox = Box.create(pos.getX(), pos.getY(), pos.getZ(), pos.getX() + 1, pos.getY() + 1, pos.getZ() + 1);
+        return GetOffMyLawn.CLAIM.get(world).getClaimsWithAugment(augment).entries(box -> box.contains(checkBox));
+    }
+
+    public static boolean hasAugmentAt(WorldView world, BlockPos pos, Augment augment) {
+        return getClaimsWithAugmentAt(world, pos, augment).isNotEmpty();
+    }
+
     /**
      * Returns all claims with the given origin in the given world.
      *
@@ -77,6 +95,56 @@ public class ClaimUtils {
         return GetOffMyLawn.CLAIM.get(world).getClaims().entries().filter(entry -> entry.getValue().isOwner(player));
     }
 
+    /**
+     * Returns amount of claims owned by player in the given world.
+     * <p>Unlike {@link #getClaimsOwnedBy(WorldView, UUID)}, this doesn't require iterating over all claims.
+     *
+     * @param world  world to check for claims in
+     * @param player player's uuid
+     * @return amount of claims owned by player
+     */
+    public static int getClaimCount(WorldView world, UUID player) {
+        return GetOffMyLawn.CLAIM.get(world).getClaimCount(player);
+    }
+
+    /**
+     * Returns amount of claims owned by player across all worlds.
+     *
+     * @param server server to check for claims in
+     * @param player player's uuid
+     * @return amount of claims owned by player
+     */
+    public static int getClaimCount(MinecraftServer server, UUID player) {
+        int count = 0;
+        for (var world : server.getWorlds()) {
+            count += GetOffMyLawn.CLAIM.get(world).getClaimCount(player);
+        }
+        return count;
+    }
+
+    /**
+     * Returns total horizontal area (in blocks) of claims owned by player across all worlds.
+     *
+     * @param server server to check for claims in
+     * @param player player's uuid
+     * @return claimed area
+     */
+    public static long getClaimedArea(MinecraftServer server, UUID player) {
+        long area = 0;
+        for (var world : server.getWorlds()) {
+            area += GetOffMyLawn.CLAIM.get(world).getClaimedArea(player);
+        }
+        return area;
+    }
+
+    /**
+     * Returns horizontal area (in blocks) covered by claim box.
+     */
+    public static long getClaimArea(ClaimBox box) {
+        var b = box.toBox();
+        return (long) (b.x2() - b.x1()) * (long) (b.z2() - b.z1());
+    }
+
     /**
      * Returns all claims in the given world where player is trusted.
      *
@@ -103,6 +171,22 @@ public class ClaimUtils {
         return GetOffMyLawn.CLAIM.get(world).getClaims().entries().filter(entry -> entry.getValue().hasPermission(player));
     }
 
+    /**
+     * Returns {@link PermissionReason} protecting usage of block at provided position.
+     * Containers and doors have their own reasons, so they can be opened up separately from the rest of the claim.
+     */
+    public static PermissionReason getBlockUseReason(World world, BlockPos pos) {
+        var state = world.getBlockState(pos);
+
+        if (state.isIn(BlockTags.DOORS) || state.isIn(BlockTags.TRAPDOORS) || state.isIn(BlockTags.FENCE_GATES)) {
+            return PermissionReason.DOOR_PROTECTED;
+        } else if (world.getBlockEntity(pos) instanceof Inventory) {
+            return PermissionReason.CONTAINER_PROTECTED;
+        }
+
+        return PermissionReason.AREA_PROTECTED;
+    }
+
     /**
      * Returns all claims that intersect with a box created by the 2 given positions.
      *
@@ -168,9 +252,17 @@ public class ClaimUtils {
     }
 
     public static boolean canModifyClaimAt(World world, BlockPos pos, Entry<ClaimBox, Claim> claim, PlayerEntity player) {
-        return claim.getValue().hasPermission(player)
+        return canModifyClaimAt(world, pos, claim.getValue(), player);
+    }
+
+    public static boolean canModifyClaimAt(World world, BlockPos pos, Claim claim, PlayerEntity player) {
+        return canModifyClaimAt(world, pos, claim, player, PermissionReason.AREA_PROTECTED);
+    }
+
+    public static boolean canModifyClaimAt(World world, BlockPos pos, Claim claim, PlayerEntity player, PermissionReason reason) {
+        return claim.hasPermission(player, reason)
                 || isInAdminMode(player)
-                || ClaimEvents.PERMISSION_DENIED.invoker().check(player, world, Hand.MAIN_HAND, pos, PermissionReason.AREA_PROTECTED) == ActionResult.SUCCESS;
+                || ClaimEvents.PERMISSION_DENIED.invoker().check(player, world, Hand.MAIN_HAND, pos, reason) == ActionResult.SUCCESS;
     }
 
     public static boolean isInAdminMode(PlayerEntity player) {
@@ -178,48 +270,120 @@ public class ClaimUtils {
     }
 
     public static boolean canFireDestroy(World world, BlockPos pos) {
-        return ClaimUtils.getClaimsAt(world, pos).isEmpty();
+        return !isClaimed(world, pos);
+    }
+
+    /**
+     * Checks if position is inside of any claim.
+     */
+    public static boolean isClaimed(World world, BlockPos pos) {
+        var section = getCachedSection(world, pos);
+        return section != null ? section.isClaimed(pos) : ClaimUtils.getClaimsAt(world, pos).isNotEmpty();
+    }
+
+    /**
+     * Returns claims overlapping chunk section at provided position, or null if cache can't be used from current thread.
+     * Claims in it only need to be checked against position if section isn't uniform.
+     */
+    @Nullable
+    private static ClaimSectionCache.Section getCachedSection(World world, BlockPos pos) {
+        if (world instanceof ServerWorld serverWorld && serverWorld.getServer().isOnThread()) {
+            return GetOffMyLawn.CLAIM.get(world).internal_getSection(pos);
+        }
+        return null;
     }
 
     public static boolean canFluidFlow(World world, BlockPos cur, BlockPos dest) {
-        var claimsDest = ClaimUtils.getClaimsAt(world, dest);
-        var claimsCur = ClaimUtils.getClaimsAt(world, cur);
-        return claimsDest.isEmpty() || claimsCur.anyMatch(x -> claimsCur.anyMatch(y -> x.equals(y)));
+        if (!(world instanceof ServerWorld serverWorld) || !serverWorld.getServer().isOnThread()) {
+            var claimsDest = ClaimUtils.getClaimsAt(world, dest);
+            return claimsDest.isEmpty() || claimsDest.anyMatch(x -> x.getKey().contains(cur));
+        }
+
+        var section = GetOffMyLawn.CLAIM.get(world).internal_getSection(dest);
+
+        // Only flows into claim need checking, allowing them only if source is within the same claim
+        for (var claim : section.claims()) {
+            var box = claim.getClaimBox();
+            if ((section.uniform() || box.contains(dest)) && box.contains(cur)) {
+                return true;
+            }
+        }
+
+        return !section.isClaimed(dest);
     }
 
     public static boolean canExplosionDestroy(World world, BlockPos pos, @Nullable Entity causingEntity) {
+        var player = getExplosionPlayer(causingEntity);
+        var section = getCachedSection(world, pos);
+
+        if (section != null) {
+            var claimed = false;
+            for (var claim : section.claims()) {
+                if (section.uniform() || claim.getClaimBox().contains(pos)) {
+                    if (player != null) {
+                        if (!canModifyClaimAt(world, pos, claim, player)) {
+                            return false;
+                        }
+                    } else if (allowsExplosions(world, claim)) {
+                        return true;
+                    } else {
+                        claimed = true;
+                    }
+                }
+            }
+            return !claimed;
+        }
+
         Selection<Entry<ClaimBox, Claim>> claimsFound = ClaimUtils.getClaimsAt(world, pos);
 
-        PlayerEntity player;
+        if (player != null && claimsFound.isNotEmpty()) {
+            return !claimsFound.anyMatch((Entry<ClaimBox, Claim> boxInfo) -> !canModifyClaimAt(world, pos, boxInfo, player));
+        }
 
+        return claimsFound.isEmpty() || claimsFound.anyMatch((c) -> allowsExplosions(world, c.getValue()));
+    }
+
+    /**
+     * Returns player responsible for explosion caused by provided entity, if there is one.
+     */
+    @Nullable
+    public static PlayerEntity getExplosionPlayer(@Nullable Entity causingEntity) {
         if (causingEntity instanceof PlayerEntity playerEntity) {
-            player = playerEntity;
+            return playerEntity;
         } else if (!GetOffMyLawn.CONFIG.protectAgainstHostileExplosionsActivatedByTrustedPlayers && causingEntity instanceof MobEntity creeperEntity && creeperEntity.getTarget() instanceof PlayerEntity playerEntity) {
-            player = playerEntity;
-        } else {
-            player = null;
-        }
-
-        if (player != null && claimsFound.isNotEmpty()) {
-            return !claimsFound.anyMatch((Entry<ClaimBox, Claim> boxInfo) -> !canModifyClaimAt(world, pos, boxInfo, player));
+            return playerEntity;
         }
+        return null;
+    }
 
-        return claimsFound.isEmpty() || claimsFound.anyMatch((c) -> {
-            if (world.getServer() != null) {
-                if (c.getValue().hasAugment(GOMLBlocks.EXPLOSION_CONTROLLER.getFirst())) {
-                    return c.getValue().getData(ExplosionControllerAugmentBlock.KEY) == StatusEnum.Toggle.DISABLED;
-                }
+    /**
+     * Checks if claim allows explosions not caused by any player.
+     */
+    public static boolean allowsExplosions(World world, Claim claim) {
+        if (world.getServer() != null) {
+            if (claim.hasAugment(GOMLBlocks.EXPLOSION_CONTROLLER.getFirst())) {
+                return claim.getData(ExplosionControllerAugmentBlock.KEY) == StatusEnum.Toggle.DISABLED;
             }
+        }
 
-            return false;
-        });
+        return false;
     }
 
     public static boolean canDamageEntity(World world, Entity entity, DamageSource source) {
+        // Environmental damage (fall, drowning, fire, cactus...) has no entity behind it, so claims never affect it
+        if (source.getAttacker() == null && source.getSource() == null) {
+            return true;
+        }
+
         if (entity == source.getAttacker()) {
             return true;
         }
 
+        // Every check below allows damage outside of claims
+        if (!isClaimed(world, entity.getBlockPos())) {
+            return true;
+        }
+
         PlayerEntity player;
 
          if (source.getAttacker() instanceof PlayerEntity playerEntity) {
@@ -234,7 +398,7 @@ public class ClaimUtils {
             player = playerEntity;
         } else if (!(entity instanceof PlayerEntity) && source.getSource() != null && (source.getAttacker() == null || source.getSource() == source.getAttacker())) {
             var projectile = source.getSource();
-            return hasMatchingClaims(world, entity.getBlockPos(), ((OriginOwner) projectile).goml$getOriginSafe());
+            return hasMatchingClaims(world, entity.getBlockPos(), ((OriginOwner) projectile).goml$getOriginClaims());
         } else {
             return true;
         }
@@ -284,13 +448,27 @@ public class ClaimUtils {
     }
 
     public static boolean canModify(World world, BlockPos pos, @Nullable PlayerEntity player) {
+        return canModify(world, pos, player, PermissionReason.AREA_PROTECTED);
+    }
+
+    public static boolean canModify(World world, BlockPos pos, @Nullable PlayerEntity player, PermissionReason reason) {
         if (GetOffMyLawn.CONFIG.allowFakePlayersToModify && player != null && player.getClass() != ServerPlayerEntity.class && !world.isClient) {
             return true;
         }
 
+        var section = getCachedSection(world, pos);
+        if (section != null) {
+            for (var claim : section.claims()) {
+                if ((section.uniform() || claim.getClaimBox().contains(pos)) && (player == null || !canModifyClaimAt(world, pos, claim, player, reason))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
         Selection<Entry<ClaimBox, Claim>> claimsFound = ClaimUtils.getClaimsAt(world, pos);
         if (player != null && claimsFound.isNotEmpty()) {
-            return !claimsFound.anyMatch((Entry<ClaimBox, Claim> boxInfo) -> !canModifyClaimAt(world, pos, boxInfo, player));
+            return !claimsFound.anyMatch((Entry<ClaimBox, Claim> boxInfo) -> !canModifyClaimAt(world, pos, boxInfo.getValue(), player, reason));
         }
 
         return claimsFound.isEmpty();
@@ -448,29 +626,76 @@ public class ClaimUtils {
         return hasMatchingClaims(world, target, origin, null);
     }
     public static boolean hasMatchingClaims(World world, BlockPos target, BlockPos origin, @Nullable UUID uuid) {
-        var claims = ClaimUtils.getClaimsAt(world, target);
+        return hasMatchingClaims(world, target, getClaimArrayAt(world, origin), uuid);
+    }
 
-        if (claims.isEmpty()) {
-            return true;
+    /**
+     * Returns claims at the given position as an array, for callers caching them.
+     */
+    public static Claim[] getClaimArrayAt(World world, BlockPos pos) {
+        var list = new ArrayList<Claim>(1);
+        var section = getCachedSection(world, pos);
+        if (section != null) {
+            for (var claim : section.claims()) {
+                if (section.uniform() || claim.getClaimBox().contains(pos)) {
+                    list.add(claim);
+                }
+            }
+        } else {
+            ClaimUtils.getClaimsAt(world, pos).forEach(x -> list.add(x.getValue()));
         }
-        var originClaims = ClaimUtils.getClaimsAt(world, origin);
+        return list.isEmpty() ? NO_CLAIMS : list.toArray(NO_CLAIMS);
+    }
 
-        if (originClaims.isEmpty() && uuid == null) {
-            return false;
+    /**
+     * Same as {@link #hasMatchingClaims(World, BlockPos, BlockPos)}, but with claims at both positions already resolved.
+     */
+    public static boolean hasMatchingClaims(Claim[] targetClaims, Claim[] originClaims) {
+        for (var claim : targetClaims) {
+            if (matchesOrigin(claim, originClaims, null)) {
+                return true;
+            }
         }
+        return targetClaims.length == 0;
+    }
+
+    public static boolean hasMatchingClaims(World world, BlockPos target, Claim[] originClaims) {
+        return hasMatchingClaims(world, target, originClaims, null);
+    }
 
-        var trusted = new HashSet<UUID>();
-        if (uuid != null) {
-            trusted.add(uuid);
+    /**
+     * Same as {@link #hasMatchingClaims(World, BlockPos, BlockPos, UUID)}, but with claims at origin already resolved.
+     */
+    public static boolean hasMatchingClaims(World world, BlockPos target, Claim[] originClaims, @Nullable UUID uuid) {
+        var section = getCachedSection(world, target);
+        if (section == null) {
+            var claims = ClaimUtils.getClaimsAt(world, target);
+            return claims.isEmpty() || claims.anyMatch(x -> matchesOrigin(x.getValue(), originClaims, uuid));
         }
 
-        claims.forEach(x -> {
-            trusted.addAll(x.getValue().getOwners());
-            trusted.addAll(x.getValue().getTrusted());
-        });
+        var claimed = false;
+        for (var claim : section.claims()) {
+            if (section.uniform() || claim.getClaimBox().contains(target)) {
+                if (matchesOrigin(claim, originClaims, uuid)) {
+                    return true;
+                }
+                claimed = true;
+            }
+        }
+        return !claimed;
+    }
 
-        return claims.anyMatch(x -> x.getValue().hasPermission(trusted));
+    private static boolean matchesOrigin(Claim claim, Claim[] originClaims, @Nullable UUID uuid) {
+        if (uuid != null && claim.hasPermission(uuid)) {
+            return true;
+        }
 
+        for (var origin : originClaims) {
+            if (claim.hasPermission(origin)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private static int claimColorIndex(Claim claim) {
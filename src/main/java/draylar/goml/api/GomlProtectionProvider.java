@@ -36,15 +36,19 @@ public final class GomlProtectionProvider implements ProtectionProvider {
 
     @Override
     public boolean canBreakBlock(World world, BlockPos pos, GameProfile profile, @Nullable PlayerEntity player) {
+        return canModify(world, pos, profile, player, PermissionReason.BLOCK_PROTECTED);
+    }
+
+    private static boolean canModify(World world, BlockPos pos, GameProfile profile, @Nullable PlayerEntity player, PermissionReason reason) {
         if (world.getServer() == null) {
             return true;
         }
 
         if (player != null) {
-            return ClaimUtils.canModify(world, pos, player);
+            return ClaimUtils.canModify(world, pos, player, reason);
         } else {
             var claims = ClaimUtils.getClaimsAt(world, pos);
-            return claims.isEmpty() || claims.anyMatch((c) -> c.getValue().hasPermission(profile.getId()));
+            return claims.isEmpty() || !claims.anyMatch((c) -> !c.getValue().hasPermission(profile.getId(), reason));
         }
     }
 
@@ -66,7 +70,7 @@ public final class GomlProtectionProvider implements ProtectionProvider {
         if (world.getServer() == null) {
             return true;
         }
-        return GetOffMyLawn.CONFIG.canInteract(world.getBlockState(pos).getBlock()) || this.canBreakBlock(world, pos, profile, player);
+        return GetOffMyLawn.CONFIG.canInteract(world.getBlockState(pos).getBlock()) || canModify(world, pos, profile, player, ClaimUtils.getBlockUseReason(world, pos));
     }
 
     @Override
@@ -74,7 +78,7 @@ public final class GomlProtectionProvider implements ProtectionProvider {
         if (world.getServer() == null) {
             return true;
         }
-        return GetOffMyLawn.CONFIG.canInteract(entity) || this.canBreakBlock(world, entity.getBlockPos(), profile, player);
+        return GetOffMyLawn.CONFIG.canInteract(entity) || canModify(world, entity.getBlockPos(), profile, player, PermissionReason.ENTITY_PROTECTED);
     }
 
     @Override
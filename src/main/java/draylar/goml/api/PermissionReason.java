@@ -3,17 +3,40 @@ package draylar.goml.api;
 import net.minecraft.text.Text;
 
 public enum PermissionReason {
-    BLOCK_PROTECTED(Text.translatable("text.goml.block_protected")),
-    ENTITY_PROTECTED(Text.translatable("text.goml.entity_protected")),
-    AREA_PROTECTED(Text.translatable("text.goml.area_protected"));
+    BLOCK_PROTECTED("block_protected"),
+    ENTITY_PROTECTED("entity_protected"),
+    AREA_PROTECTED("area_protected"),
+    CONTAINER_PROTECTED("container_protected"),
+    DOOR_PROTECTED("door_protected");
 
-    private Text reason;
+    private final String name;
+    private final Text reason;
+    private final Text displayName;
 
-    PermissionReason(Text reason) {
-        this.reason = reason;
+    PermissionReason(String name) {
+        this.name = name;
+        this.reason = Text.translatable("text.goml." + name);
+        this.displayName = Text.translatable("text.goml.permission." + name);
     }
 
     public Text getReason() {
         return reason;
     }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public Text getDisplayName() {
+        return this.displayName;
+    }
+
+    public static PermissionReason byName(String name) {
+        for (var reason : values()) {
+            if (reason.name.equals(name)) {
+                return reason;
+            }
+        }
+        return null;
+    }
 }
@@ -0,0 +1,21 @@
+package draylar.goml.api;
+
+/**
+ * Handle of a callback scheduled with {@link draylar.goml.cca.ClaimComponent#schedule}.
+ */
+public interface ScheduledTask {
+    /**
+     * Prevents task from running. Does nothing if it already ran or was cancelled.
+     */
+    void cancel();
+
+    /**
+     * Returns true if task is still waiting to be run.
+     */
+    boolean isActive();
+
+    /**
+     * Returns amount of ticks left before task runs.
+     */
+    long getRemainingTicks();
+}
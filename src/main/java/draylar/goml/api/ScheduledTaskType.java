@@ -0,0 +1,34 @@
+package draylar.goml.api;
+
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Type of scheduled task, that is stored with the world and survives restarts.
+ * It needs to be created during mod initialization, before worlds are loaded.
+ */
+public record ScheduledTaskType(Identifier id, Handler handler) {
+    private static final Map<Identifier, ScheduledTaskType> REGISTRY = new HashMap<>();
+
+    public ScheduledTaskType {
+        if (REGISTRY.containsKey(id)) {
+            throw new RuntimeException("Duplicate task type " + id + "! You can't register the same type twice!");
+        }
+
+        REGISTRY.put(id, this);
+    }
+
+    @Nullable
+    public static ScheduledTaskType get(Identifier id) {
+        return REGISTRY.get(id);
+    }
+
+    public interface Handler {
+        void run(ServerWorld world, NbtCompound data);
+    }
+}
@@ -21,6 +21,14 @@ public interface PlayerGroup {
     boolean addClaim(Claim claim);
     boolean removeClaim(Claim claim);
 
+    /**
+     * Groups returning true must call {@link Claim#internal_onMembershipChanged()} every time their members change.
+     * Otherwise, permission checks of claims trusting this group can't be cached.
+     */
+    default boolean reportsMembershipChanges() {
+        return false;
+    }
+
     record Member(GameProfile profile, String role) {}
 
     record Key(String providerId, String groupId) {
@@ -14,8 +14,6 @@ import net.minecraft.block.BlockEntityProvider;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.block.entity.BlockEntity;
-import net.minecraft.block.entity.BlockEntityTicker;
-import net.minecraft.block.entity.BlockEntityType;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
@@ -72,9 +70,6 @@ public class ClaimAnchorBlock extends Block implements BlockEntityProvider, Poly
             if (be instanceof ClaimAnchorBlockEntity anchor) {
                 anchor.setClaim(claimInfo, box);
             }
-            if (world instanceof ServerWorld world1) {
-                claimInfo.internal_updateChunkCount(world1);
-            }
 
             ClaimEvents.CLAIM_CREATED.invoker().onEvent(claimInfo);
             claimInfo.internal_enableUpdates();
@@ -145,12 +140,6 @@ public class ClaimAnchorBlock extends Block implements BlockEntityProvider, Poly
         return new ClaimAnchorBlockEntity(pos, state);
     }
 
-    @Nullable
-    @Override
-    public <T extends BlockEntity> BlockEntityTicker<T> getTicker(World world, BlockState state, BlockEntityType<T> type) {
-        return ClaimAnchorBlockEntity::tick;
-    }
-
     @Override
     public String getPolymerSkinValue(BlockState state, BlockPos pos, PacketContext player) {
         return this.texture;
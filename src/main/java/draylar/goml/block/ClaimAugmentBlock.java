@@ -13,8 +13,6 @@ import net.minecraft.block.BlockEntityProvider;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.block.entity.BlockEntity;
-import net.minecraft.block.entity.BlockEntityTicker;
-import net.minecraft.block.entity.BlockEntityType;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
@@ -198,12 +196,6 @@ public class ClaimAugmentBlock extends Block implements Augment, BlockEntityProv
         return new ClaimAugmentBlockEntity(pos, state);
     }
 
-    @Nullable
-    @Override
-    public <T extends BlockEntity> BlockEntityTicker<T> getTicker(World world, BlockState state, BlockEntityType<T> type) {
-        return ClaimAugmentBlockEntity::tick;
-    }
-
     @Override
     public String getPolymerSkinValue(BlockState state, BlockPos pos, PacketContext player) {
         return this.texture;
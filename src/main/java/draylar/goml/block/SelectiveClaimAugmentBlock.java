@@ -29,7 +29,7 @@ public class SelectiveClaimAugmentBlock extends ClaimAugmentBlock {
     @Override
     public void onPlayerEnter(Claim claim, PlayerEntity player) {
         if (this.canApply(claim, player)) {
-            this.applyEffect(player);
+            this.applyEffect(claim, player);
         }
     }
 
@@ -42,6 +42,14 @@ public class SelectiveClaimAugmentBlock extends ClaimAugmentBlock {
 
     @Override
     public void onPlayerExit(Claim claim, PlayerEntity player) {
+        this.removeEffect(claim, player);
+    }
+
+    public void applyEffect(Claim claim, PlayerEntity player) {
+        this.applyEffect(player);
+    }
+
+    public void removeEffect(Claim claim, PlayerEntity player) {
         this.removeEffect(player);
     }
 
@@ -79,10 +87,10 @@ public class SelectiveClaimAugmentBlock extends ClaimAugmentBlock {
                         var mode = currentMode.getNext();
                         claim.setData(key, mode);
                         for (var p : claim.getPlayersIn(player.server)) {
-                            this.removeEffect(player);
+                            this.removeEffect(claim, p);
 
                             if (this.canApply(claim, p)) {
-                                this.applyEffect(player);
+                                this.applyEffect(claim, p);
                             }
                         }
                         change.getValue().run();
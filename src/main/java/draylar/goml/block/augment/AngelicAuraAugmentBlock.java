@@ -1,9 +1,8 @@
 package draylar.goml.block.augment;
 
 import draylar.goml.api.Claim;
-import draylar.goml.block.ClaimAugmentBlock;
 import draylar.goml.block.SelectiveClaimAugmentBlock;
-import net.minecraft.entity.effect.StatusEffectInstance;
+import draylar.goml.other.StatusEffectLeases;
 import net.minecraft.entity.effect.StatusEffects;
 import net.minecraft.entity.player.PlayerEntity;
 
@@ -13,10 +12,22 @@ public class AngelicAuraAugmentBlock extends SelectiveClaimAugmentBlock {
         super("angelic_aura", settings, texture);
     }
 
+    @Override
+    public void applyEffect(Claim claim, PlayerEntity player) {
+        StatusEffectLeases.grant(player, claim, StatusEffects.REGENERATION, 0);
+    }
+
+    @Override
+    public void removeEffect(Claim claim, PlayerEntity player) {
+        StatusEffectLeases.revoke(player, claim, StatusEffects.REGENERATION);
+    }
+
     @Override
     public void playerTick(Claim claim, PlayerEntity player) {
-        if (player.age % 80 == 0 && canApply(claim, player)) {
-            player.addStatusEffect(new StatusEffectInstance(StatusEffects.REGENERATION, 80, 0, true, false));
+        if (canApply(claim, player)) {
+            this.applyEffect(claim, player);
+        } else {
+            this.removeEffect(claim, player);
         }
     }
 
@@ -24,4 +35,9 @@ public class AngelicAuraAugmentBlock extends SelectiveClaimAugmentBlock {
     public boolean ticks() {
         return true;
     }
+
+    @Override
+    public int getTickInterval() {
+        return 20;
+    }
 }
@@ -1,9 +1,8 @@
 package draylar.goml.block.augment;
 
 import draylar.goml.api.Claim;
-import draylar.goml.block.ClaimAugmentBlock;
 import draylar.goml.block.SelectiveClaimAugmentBlock;
-import net.minecraft.entity.effect.StatusEffectInstance;
+import draylar.goml.other.StatusEffectLeases;
 import net.minecraft.entity.effect.StatusEffects;
 import net.minecraft.entity.player.PlayerEntity;
 
@@ -18,10 +17,27 @@ public class ChaosZoneAugmentBlock extends SelectiveClaimAugmentBlock {
         return true;
     }
 
+    @Override
+    public int getTickInterval() {
+        return 20;
+    }
+
+    @Override
+    public void applyEffect(Claim claim, PlayerEntity player) {
+        StatusEffectLeases.grant(player, claim, StatusEffects.STRENGTH, 0);
+    }
+
+    @Override
+    public void removeEffect(Claim claim, PlayerEntity player) {
+        StatusEffectLeases.revoke(player, claim, StatusEffects.STRENGTH);
+    }
+
     @Override
     public void playerTick(Claim claim, PlayerEntity player) {
         if (canApply(claim, player)) {
-            player.addStatusEffect(new StatusEffectInstance(StatusEffects.STRENGTH, 5, 0, true, false));
+            this.applyEffect(claim, player);
+        } else {
+            this.removeEffect(claim, player);
         }
     }
 }
@@ -1,5 +1,6 @@
 package draylar.goml.block.augment;
 
+import com.jamieswhiteshirt.rtree3i.Box;
 import com.mojang.authlib.GameProfile;
 import draylar.goml.GetOffMyLawn;
 import draylar.goml.api.Claim;
@@ -29,6 +30,7 @@ import net.minecraft.util.Formatting;
 import net.minecraft.util.Pair;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.Heightmap;
 import net.minecraft.world.World;
@@ -127,6 +129,54 @@ public class ForceFieldAugmentBlock extends ClaimAugmentBlock {
         return true;
     }
 
+    @Override
+    public int getTickInterval() {
+        // Movement into claim is rejected before it happens, this only handles players that ended up inside in other ways
+        return 10;
+    }
+
+    /**
+     * Checks if moving between positions would make player enter a claim with force field blocking them.
+     */
+    public boolean isBlockedMove(PlayerEntity player, Vec3d from, Vec3d to) {
+        var box = player.getBoundingBox();
+        return isBlockedMove(player, box.offset(from.subtract(player.getPos())), box.offset(to.subtract(player.getPos())));
+    }
+
+    /**
+     * Checks if moving player's bounding box would make it enter a claim with force field blocking them.
+     * Uses same intersection test as claim enter detection.
+     */
+    public boolean isBlockedMove(PlayerEntity player, net.minecraft.util.math.Box from, net.minecraft.util.math.Box to) {
+        var checkBox = Box.create(MathHelper.floor(to.minX), MathHelper.floor(to.minY), MathHelper.floor(to.minZ),
+                MathHelper.ceil(to.maxX), MathHelper.ceil(to.maxY), MathHelper.ceil(to.maxZ));
+
+        // Claim boxes are block aligned, so covering same blocks can't cross the border
+        if (checkBox.equals(Box.create(MathHelper.floor(from.minX), MathHelper.floor(from.minY), MathHelper.floor(from.minZ),
+                MathHelper.ceil(from.maxX), MathHelper.ceil(from.maxY), MathHelper.ceil(from.maxZ)))) {
+            return false;
+        }
+
+        return GetOffMyLawn.CLAIM.get(player.getWorld()).getClaimsWithAugment(this).entries(box -> box.intersectsClosed(checkBox)).anyMatch(entry -> {
+            var claim = entry.getValue();
+            var box = entry.getKey().minecraftBox();
+            return box.intersects(to) && !box.intersects(from)
+                    && this.isEnabled(claim, player.getWorld()) && this.shouldBlock(claim, player);
+        });
+    }
+
+    public void onBlockedMove(ServerPlayerEntity player, Vec3d to) {
+        for (int y = -1; y <= 1; y++) {
+            player.getServerWorld().spawnParticles(
+                    player, new BlockStateParticleEffect(ParticleTypes.BLOCK_MARKER, Blocks.BARRIER.getDefaultState()), true,
+                    to.x, player.getEyeY() + y, to.z,
+                    1,
+                    0.0, 0.0, 0.0,
+                    0.0
+            );
+        }
+    }
+
     public boolean shouldBlock(Claim claim, PlayerEntity player) {
         var uuids = claim.getData(UUID_KEY);
 
@@ -144,8 +194,8 @@ public class ForceFieldAugmentBlock extends ClaimAugmentBlock {
 
 
     private int shouldBlock(World world, Vec3d pos, PlayerEntity player) {
-        var x = ClaimUtils.getClaimsAt(world, BlockPos.ofFloored(pos))
-                .filter(entry -> entry.getValue().hasAugment(this) && shouldBlock(entry.getValue(), player)).collect(Collectors.toList());
+        var x = ClaimUtils.getClaimsWithAugmentAt(world, BlockPos.ofFloored(pos), this)
+                .filter(entry -> shouldBlock(entry.getValue(), player)).collect(Collectors.toList());
 
         return x.isEmpty() ? -1 : x.get(0).getValue().getRadius();
     }
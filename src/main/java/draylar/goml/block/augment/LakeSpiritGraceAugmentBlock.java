@@ -1,9 +1,8 @@
 package draylar.goml.block.augment;
 
 import draylar.goml.api.Claim;
-import draylar.goml.block.ClaimAugmentBlock;
 import draylar.goml.block.SelectiveClaimAugmentBlock;
-import net.minecraft.entity.effect.StatusEffectInstance;
+import draylar.goml.other.StatusEffectLeases;
 import net.minecraft.entity.effect.StatusEffects;
 import net.minecraft.entity.player.PlayerEntity;
 
@@ -13,11 +12,24 @@ public class LakeSpiritGraceAugmentBlock extends SelectiveClaimAugmentBlock {
         super("lake_spirit", settings, texture);
     }
 
+    @Override
+    public void applyEffect(Claim claim, PlayerEntity player) {
+        StatusEffectLeases.grant(player, claim, StatusEffects.WATER_BREATHING, 0);
+        StatusEffectLeases.grant(player, claim, StatusEffects.DOLPHINS_GRACE, 0);
+    }
+
+    @Override
+    public void removeEffect(Claim claim, PlayerEntity player) {
+        StatusEffectLeases.revoke(player, claim, StatusEffects.WATER_BREATHING);
+        StatusEffectLeases.revoke(player, claim, StatusEffects.DOLPHINS_GRACE);
+    }
+
     @Override
     public void playerTick(Claim claim, PlayerEntity player) {
         if (this.canApply(claim, player)) {
-            player.addStatusEffect(new StatusEffectInstance(StatusEffects.WATER_BREATHING, 5, 0, true, false));
-            player.addStatusEffect(new StatusEffectInstance(StatusEffects.DOLPHINS_GRACE, 5, 0, true, false));
+            this.applyEffect(claim, player);
+        } else {
+            this.removeEffect(claim, player);
         }
     }
 
@@ -25,4 +37,9 @@ public class LakeSpiritGraceAugmentBlock extends SelectiveClaimAugmentBlock {
     public boolean ticks() {
         return true;
     }
+
+    @Override
+    public int getTickInterval() {
+        return 20;
+    }
 }
@@ -0,0 +1,139 @@
+package draylar.goml.block.augment;
+
+import draylar.goml.GetOffMyLawn;
+import draylar.goml.api.Claim;
+import draylar.goml.api.DataKey;
+import draylar.goml.block.ClaimAugmentBlock;
+import draylar.goml.other.SpawnControlIndex;
+import draylar.goml.other.StatusEnum;
+import draylar.goml.ui.PagedGui;
+import eu.pb4.sgui.api.elements.GuiElementBuilder;
+import eu.pb4.sgui.api.gui.SimpleGui;
+import net.minecraft.entity.SpawnGroup;
+import net.minecraft.item.Item;
+import net.minecraft.item.Items;
+import net.minecraft.nbt.AbstractNbtList;
+import net.minecraft.nbt.NbtList;
+import net.minecraft.nbt.NbtString;
+import net.minecraft.screen.ScreenHandlerType;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.text.Text;
+import net.minecraft.util.Formatting;
+import org.apache.commons.lang3.mutable.MutableObject;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+public class SpawnControllerAugmentBlock extends ClaimAugmentBlock {
+    public static final SpawnGroup[] GROUPS = new SpawnGroup[] {
+            SpawnGroup.MONSTER, SpawnGroup.CREATURE, SpawnGroup.AMBIENT, SpawnGroup.AXOLOTLS,
+            SpawnGroup.UNDERGROUND_WATER_CREATURE, SpawnGroup.WATER_CREATURE, SpawnGroup.WATER_AMBIENT
+    };
+
+    public static final DataKey<Set<SpawnGroup>> KEY = new DataKey<>(GetOffMyLawn.id("spawn_control"), EnumSet.of(SpawnGroup.MONSTER), (set) -> {
+        var nbt = new NbtList();
+        for (var group : set) {
+            nbt.add(NbtString.of(group.getName()));
+        }
+        return nbt;
+    }, (nbt) -> {
+        var set = EnumSet.noneOf(SpawnGroup.class);
+        if (nbt instanceof AbstractNbtList<?> list) {
+            for (var element : list) {
+                for (var group : GROUPS) {
+                    if (group.getName().equals(element.asString())) {
+                        set.add(group);
+                    }
+                }
+            }
+        }
+        return set;
+    }, () -> EnumSet.of(SpawnGroup.MONSTER));
+
+    public SpawnControllerAugmentBlock(Settings settings, String texture) {
+        super(settings, texture);
+    }
+
+    public static int getSpawnMask(Claim claim) {
+        return SpawnControlIndex.getMask(claim.getData(KEY));
+    }
+
+    @Override
+    public boolean hasSettings() {
+        return true;
+    }
+
+    @Override
+    public void openSettings(Claim claim, ServerPlayerEntity player, @Nullable Runnable closeCallback) {
+        var gui = new SimpleGui(ScreenHandlerType.GENERIC_9X1, player, false) {
+            @Override
+            public void onClose() {
+                if (closeCallback != null) {
+                    closeCallback.run();
+                }
+            }
+        };
+
+        gui.setTitle(this.getGuiName());
+
+        for (int i = 0; i < GROUPS.length; i++) {
+            var group = GROUPS[i];
+            var slot = i;
+            var change = new MutableObject<Runnable>();
+            change.setValue(() -> {
+                var blocked = claim.getData(KEY).contains(group);
+                var mode = blocked ? StatusEnum.Toggle.ENABLED : StatusEnum.Toggle.DISABLED;
+                var element = new GuiElementBuilder(getIcon(group))
+                        .setName(Text.translatable("text.goml.spawn_control_toggle", Text.translatable("text.goml.spawn_group." + group.getName()), mode.getName()))
+                        .addLoreLine(Text.translatable("text.goml.mode_toggle.help").formatted(Formatting.GRAY))
+                        .setCallback((x, y, z) -> {
+                            PagedGui.playClickSound(player);
+                            var groups = EnumSet.noneOf(SpawnGroup.class);
+                            groups.addAll(claim.getData(KEY));
+                            if (!groups.remove(group)) {
+                                groups.add(group);
+                            }
+                            claim.setData(KEY, groups);
+                            GetOffMyLawn.CLAIM.get(claim.getWorldInstance(player.server)).internal_updateSpawnControl(claim);
+                            change.getValue().run();
+                        });
+
+                if (blocked) {
+                    element.glow();
+                }
+
+                gui.setSlot(slot, element);
+            });
+
+            change.getValue().run();
+        }
+
+        gui.setSlot(8, new GuiElementBuilder(Items.STRUCTURE_VOID)
+                .setName(Text.translatable(closeCallback != null ? "text.goml.gui.back" : "text.goml.gui.close").formatted(Formatting.RED))
+                .setCallback((x, y, z) -> {
+                    PagedGui.playClickSound(player);
+                    gui.close();
+                })
+        );
+
+        while (gui.getFirstEmptySlot() != -1) {
+            gui.addSlot(PagedGui.DisplayElement.filler().element());
+        }
+
+        gui.open();
+    }
+
+    private static Item getIcon(SpawnGroup group) {
+        return switch (group) {
+            case MONSTER -> Items.ZOMBIE_SPAWN_EGG;
+            case CREATURE -> Items.PIG_SPAWN_EGG;
+            case AMBIENT -> Items.BAT_SPAWN_EGG;
+            case AXOLOTLS -> Items.AXOLOTL_SPAWN_EGG;
+            case UNDERGROUND_WATER_CREATURE -> Items.GLOW_SQUID_SPAWN_EGG;
+            case WATER_CREATURE -> Items.SQUID_SPAWN_EGG;
+            case WATER_AMBIENT -> Items.TROPICAL_FISH_SPAWN_EGG;
+            default -> Items.EGG;
+        };
+    }
+}
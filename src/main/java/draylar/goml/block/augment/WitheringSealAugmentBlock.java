@@ -17,6 +17,11 @@ public class WitheringSealAugmentBlock extends SelectiveClaimAugmentBlock {
         return true;
     }
 
+    @Override
+    public int getTickInterval() {
+        return 4;
+    }
+
     @Override
     public void playerTick(Claim claim, PlayerEntity player) {
         if (canApply(claim, player)) {
@@ -18,6 +18,7 @@ import net.minecraft.registry.RegistryWrapper;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
@@ -38,48 +39,61 @@ public class ClaimAnchorBlockEntity extends BlockEntity implements PolymerObject
         super(GOMLEntities.CLAIM_ANCHOR, pos, state);
     }
 
-    public static <T extends BlockEntity> void tick(World eWorld, BlockPos pos, BlockState state, T blockEntity) {
-        if (eWorld instanceof ServerWorld world && blockEntity instanceof ClaimAnchorBlockEntity anchor) {
+    @Override
+    public void setWorld(World world) {
+        super.setWorld(world);
+        if (world instanceof ServerWorld serverWorld) {
+            GetOffMyLawn.CLAIM.get(serverWorld).internal_queueInitialization(this);
+        }
+    }
+
+    /**
+     * Resolves claim of this anchor after it got loaded. Called once, shortly after block entity is added to the world.
+     */
+    @ApiStatus.Internal
+    public void internal_initialize(ServerWorld world) {
+        if (this.isRemoved()) {
+            return;
+        }
 
-            // Claim is null, world probably just loaded, re-grab claim
-            if (anchor.claim == null) {
-                var collect = ClaimUtils.getClaimsAt(anchor.world, anchor.pos).filter(x -> x.getValue().getOrigin().equals(pos)).collect(Collectors.toList());
+        // Claim is null, world probably just loaded, re-grab claim
+        if (this.claim == null) {
+            var collect = ClaimUtils.getClaimsAt(world, this.pos).filter(x -> x.getValue().getOrigin().equals(this.pos)).collect(Collectors.toList());
 
-                if (collect.isEmpty()) {
-                    GetOffMyLawn.LOGGER.warn(String.format("A Claim Anchor at %s tried to initialize its claim, but one could not be found! Was the claim removed without the anchor?", anchor.pos));
-                    world.breakBlock(pos, true);
-                    for (var lPos : anchor.loadPositions) {
-                        world.breakBlock(lPos, true);
-                    }
-                    return;
-                } else {
-                    var entry = collect.get(0);
-                    anchor.claim = entry.getValue();
-                    anchor.box = entry.getKey();
+            if (collect.isEmpty()) {
+                GetOffMyLawn.LOGGER.warn(String.format("A Claim Anchor at %s tried to initialize its claim, but one could not be found! Was the claim removed without the anchor?", this.pos));
+                world.breakBlock(this.pos, true);
+                for (var lPos : this.loadPositions) {
+                    world.breakBlock(lPos, true);
                 }
-            }
-
-            if (anchor.claim.isDestroyed()) {
-                world.breakBlock(pos, true);
                 return;
+            } else {
+                var entry = collect.get(0);
+                this.claim = entry.getValue();
+                this.box = entry.getKey();
             }
+        }
 
-            // no augments, some queued from fromTag
-            if (!anchor.loadPositions.isEmpty()) {
-                anchor.claim.internal_disableUpdates();
-                for (BlockPos foundPos : anchor.loadPositions) {
-                    BlockEntity foundEntity = anchor.world.getBlockEntity(foundPos);
-
-                    if (foundEntity instanceof ClaimAugmentBlockEntity be) {
-                        anchor.claim.addAugment(foundPos, be.getAugment());
-                    } else {
-                        GetOffMyLawn.LOGGER.warn(String.format("A Claim Anchor at %s tried to load a child at %s, but none were found!", anchor.pos.toString(), foundPos.toString()));
-                    }
-                }
+        if (this.claim.isDestroyed()) {
+            world.breakBlock(this.pos, true);
+            return;
+        }
+
+        // no augments, some queued from fromTag
+        if (!this.loadPositions.isEmpty()) {
+            this.claim.internal_disableUpdates();
+            for (BlockPos foundPos : this.loadPositions) {
+                BlockEntity foundEntity = world.getBlockEntity(foundPos);
 
-                anchor.loadPositions.clear();
-                anchor.claim.internal_enableUpdates();
+                if (foundEntity instanceof ClaimAugmentBlockEntity be) {
+                    this.claim.addAugment(foundPos, be.getAugment());
+                } else {
+                    GetOffMyLawn.LOGGER.warn(String.format("A Claim Anchor at %s tried to load a child at %s, but none were found!", this.pos.toString(), foundPos.toString()));
+                }
             }
+
+            this.loadPositions.clear();
+            this.claim.internal_enableUpdates();
         }
     }
 
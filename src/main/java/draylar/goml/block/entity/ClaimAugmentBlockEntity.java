@@ -16,6 +16,7 @@ import net.minecraft.registry.RegistryWrapper;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.stream.Collectors;
@@ -34,38 +35,48 @@ public class ClaimAugmentBlockEntity extends BlockEntity implements PolymerObjec
         super(GOMLEntities.CLAIM_AUGMENT, pos, state);
     }
 
-    public static <T extends BlockEntity> void tick(World world, BlockPos pos, BlockState state, T baseBlockEntity) {
-        if (world instanceof ServerWorld && baseBlockEntity instanceof ClaimAugmentBlockEntity entity) {
-            // Parent is null and parent position is not null, assume we are just loading the augment from tags.
-            if (entity.claim == null) {
-                Selection<Entry<ClaimBox, Claim>> claims = null;
+    @Override
+    public void setWorld(World world) {
+        super.setWorld(world);
+        if (world instanceof ServerWorld serverWorld) {
+            GetOffMyLawn.CLAIM.get(serverWorld).internal_queueInitialization(this);
+        }
+    }
 
-                if (entity.claimPosition != null) {
-                    claims = ClaimUtils.getClaimsWithOrigin(world, entity.claimPosition);
-                } else if (entity.parentPosition != null) {
-                    claims = ClaimUtils.getClaimsAt(world, entity.parentPosition);
-                }
+    /**
+     * Resolves claim of this augment after it got loaded. Called once, shortly after block entity is added to the world.
+     */
+    @ApiStatus.Internal
+    public void internal_initialize(ServerWorld world) {
+        if (this.isRemoved()) {
+            return;
+        }
 
-                if (claims != null) {
-                    if (claims.isNotEmpty()) {
-                        entity.claim = claims.collect(Collectors.toList()).get(0).getValue();
-                        entity.claimPosition = entity.claim.getOrigin();
-                        entity.markDirty();
-                    } else {
-                        GetOffMyLawn.LOGGER.warn(String.format("An augment at %s tried to locate a parent at %s, but it could not be found!", entity.pos.toString(), entity.claimPosition.toString()));
-                        world.breakBlock(pos, true);
-                        return;
-                    }
+        // Parent is null and parent position is not null, assume we are just loading the augment from tags.
+        if (this.claim == null) {
+            Selection<Entry<ClaimBox, Claim>> claims = null;
+
+            if (this.claimPosition != null) {
+                claims = ClaimUtils.getClaimsWithOrigin(world, this.claimPosition);
+            } else if (this.parentPosition != null) {
+                claims = ClaimUtils.getClaimsAt(world, this.parentPosition);
+            }
+
+            if (claims != null) {
+                if (claims.isNotEmpty()) {
+                    this.claim = claims.collect(Collectors.toList()).get(0).getValue();
+                    this.claimPosition = this.claim.getOrigin();
+                    this.markDirty();
                 } else {
-                    GetOffMyLawn.LOGGER.warn(String.format("An augment at %s has an invalid parent and parent position! Removing now.", entity.pos.toString()));
-                    world.breakBlock(pos, true);
-                    return;
+                    GetOffMyLawn.LOGGER.warn(String.format("An augment at %s tried to locate a parent at %s, but it could not be found!", this.pos.toString(), this.claimPosition));
+                    world.breakBlock(this.pos, true);
                 }
             } else {
-                if (entity.claim.isDestroyed()) {
-                    world.breakBlock(pos, true);
-                }
+                GetOffMyLawn.LOGGER.warn(String.format("An augment at %s has an invalid parent and parent position! Removing now.", this.pos.toString()));
+                world.breakBlock(this.pos, true);
             }
+        } else if (this.claim.isDestroyed()) {
+            world.breakBlock(this.pos, true);
         }
     }
 
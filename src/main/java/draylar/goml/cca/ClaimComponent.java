@@ -2,11 +2,125 @@ package draylar.goml.cca;
 
 import com.jamieswhiteshirt.rtree3i.RTreeMap;
 import org.ladysnake.cca.api.v3.component.ComponentV3;
+import draylar.goml.api.Augment;
 import draylar.goml.api.Claim;
 import draylar.goml.api.ClaimBox;
+import draylar.goml.api.ScheduledTask;
+import draylar.goml.api.ScheduledTaskType;
+import draylar.goml.other.ClaimSectionCache;
+import draylar.goml.other.ClaimTickStats;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.entity.SpawnGroup;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface ClaimComponent extends ComponentV3 {
     RTreeMap<ClaimBox, Claim> getClaims();
     void add(Claim info);
     void remove(Claim info);
+
+    /**
+     * Returns claims having augment of provided type.
+     */
+    RTreeMap<ClaimBox, Claim> getClaimsWithAugment(Augment augment);
+
+    /**
+     * Returns amount of claims in this world owned by player with provided {@link UUID}.
+     */
+    int getClaimCount(UUID owner);
+
+    /**
+     * Returns total horizontal area (in blocks) of claims in this world owned by player with provided {@link UUID}.
+     */
+    long getClaimedArea(UUID owner);
+
+    /**
+     * Updates if claim is included in index of claims with provided augment.
+     */
+    @ApiStatus.Internal
+    void internal_updateAugmentIndex(Claim claim, Augment augment, boolean present);
+
+    /**
+     * Recomputes spawn groups blocked by claim. Needs to be called after changing its spawn control settings.
+     */
+    @ApiStatus.Internal
+    void internal_updateSpawnControl(Claim claim);
+
+    /**
+     * Checks if mob of given spawn group can naturally spawn at position. Only checks precomputed spawn masks.
+     */
+    @ApiStatus.Internal
+    boolean internal_canSpawn(BlockPos pos, SpawnGroup group);
+
+    @ApiStatus.Internal
+    void internal_onOwnerAdded(Claim claim, UUID owner);
+
+    @ApiStatus.Internal
+    void internal_onOwnerRemoved(Claim claim, UUID owner);
+
+    /**
+     * Updates whether claim should be considered for ticking (has augments and loaded chunks).
+     */
+    @ApiStatus.Internal
+    void internal_updateTickState(Claim claim);
+
+    /**
+     * Updates which claims players are inside of and ticks claims with augments, loaded chunks and players inside.
+     */
+    @ApiStatus.Internal
+    void internal_tick(ServerWorld world);
+
+    @ApiStatus.Internal
+    ClaimTickStats internal_getTickStats();
+
+    /**
+     * Schedules callback to run after provided amount of ticks. It isn't stored with the world,
+     * so it's lost on restart.
+     */
+    ScheduledTask schedule(long delay, Consumer<ServerWorld> callback);
+
+    /**
+     * Schedules task of provided type to run after provided amount of ticks.
+     * It's stored with the world, so remaining delay carries over restarts.
+     */
+    ScheduledTask schedule(long delay, ScheduledTaskType type, NbtCompound data);
+
+    /**
+     * Returns cached claims overlapping chunk section at provided position. Server thread only.
+     */
+    @ApiStatus.Internal
+    ClaimSectionCache.Section internal_getSection(BlockPos pos);
+
+    /**
+     * Returns value changed every time a claim is added or removed, allowing to cache claims found at a position.
+     */
+    @ApiStatus.Internal
+    int internal_getIndexVersion();
+
+    /**
+     * Updates loaded chunk counts of claims overlapping provided chunk.
+     */
+    @ApiStatus.Internal
+    void internal_onChunkLoaded(ChunkPos pos);
+
+    @ApiStatus.Internal
+    void internal_onChunkUnloaded(ChunkPos pos);
+
+    /**
+     * Queues anchor or augment block entity to resolve its claim during next tick.
+     */
+    @ApiStatus.Internal
+    void internal_queueInitialization(BlockEntity blockEntity);
+
+    /**
+     * Queues removal of loaded anchor and augment blocks of a destroyed claim.
+     */
+    @ApiStatus.Internal
+    void internal_queueRemoval(Claim claim);
 }
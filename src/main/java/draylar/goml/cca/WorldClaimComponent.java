@@ -1,24 +1,94 @@
 package draylar.goml.cca;
 
+import com.jamieswhiteshirt.rtree3i.Box;
 import com.jamieswhiteshirt.rtree3i.ConfigurationBuilder;
 import com.jamieswhiteshirt.rtree3i.RTreeMap;
+import draylar.goml.GetOffMyLawn;
+import draylar.goml.api.Augment;
 import draylar.goml.api.Claim;
 import draylar.goml.api.ClaimBox;
+import draylar.goml.api.ClaimUtils;
+import draylar.goml.api.ScheduledTask;
+import draylar.goml.api.ScheduledTaskType;
+import draylar.goml.block.augment.SpawnControllerAugmentBlock;
+import draylar.goml.block.entity.ClaimAnchorBlockEntity;
+import draylar.goml.block.entity.ClaimAugmentBlockEntity;
+import draylar.goml.other.AugmentScheduler;
+import draylar.goml.other.ClaimSectionCache;
+import draylar.goml.other.ClaimTickStats;
+import draylar.goml.other.GomlPlayer;
+import draylar.goml.other.SpawnControlIndex;
+import draylar.goml.other.TimingWheel;
+import draylar.goml.registry.GOMLBlocks;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import net.fabricmc.fabric.api.util.NbtType;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.entity.SpawnGroup;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.nbt.NbtList;
 import net.minecraft.registry.RegistryWrapper;
+import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
 public class WorldClaimComponent implements ClaimComponent {
+    /**
+     * Claims spanning more chunks than this are kept out of chunk index and checked directly instead.
+     */
+    private static final int MAX_INDEXED_CHUNKS = 1024;
+    private static final int PARALLEL_BATCH_SIZE = 64;
+    private static final RTreeMap<ClaimBox, Claim> EMPTY = RTreeMap.create(new ConfigurationBuilder().star().build(), ClaimBox::toBox);
 
     private RTreeMap<ClaimBox, Claim> claims = RTreeMap.create(new ConfigurationBuilder().star().build(), ClaimBox::toBox);
     private final World world;
+    private final Set<Claim> knownClaims = new ReferenceOpenHashSet<>();
+    private final Object2IntOpenHashMap<UUID> ownerClaimCount = new Object2IntOpenHashMap<>();
+    private final Object2LongOpenHashMap<UUID> ownerClaimedArea = new Object2LongOpenHashMap<>();
+    private final Set<Claim> tickableClaims = new ReferenceOpenHashSet<>();
+    @Nullable
+    private Set<Claim> tickableSnapshot;
+    private final Set<Claim> activeClaims = new ReferenceLinkedOpenHashSet<>();
+    private final AugmentScheduler scheduler = new AugmentScheduler();
+    private final Long2ObjectOpenHashMap<List<Claim>> chunkIndex = new Long2ObjectOpenHashMap<>();
+    private final List<Claim> largeClaims = new ArrayList<>();
+    private final ArrayDeque<Claim> pendingRemoval = new ArrayDeque<>();
+    private final TimingWheel timingWheel = new TimingWheel();
+    private final ClaimSectionCache sectionCache = new ClaimSectionCache();
+    private final Reference2ObjectOpenHashMap<Augment, RTreeMap<ClaimBox, Claim>> augmentIndex = new Reference2ObjectOpenHashMap<>();
+    private final SpawnControlIndex spawnControl;
+    private int indexVersion;
+    private final Reference2LongLinkedOpenHashMap<Claim> pendingTicks = new Reference2LongLinkedOpenHashMap<>();
+    @Nullable
+    private UUID playerCursor;
+    private int playerCursorIndex;
+    private int playerBacklog;
+    private int claimBacklog;
+    private long lastTickTime;
 
     public WorldClaimComponent(World world) {
         this.world = world;
+        this.spawnControl = new SpawnControlIndex(world);
     }
 
     @Override
@@ -29,16 +99,441 @@ public class WorldClaimComponent implements ClaimComponent {
     @Override
     public void add(Claim info) {
         this.claims = this.claims.put(info.getClaimBox(), info);
+        this.sectionCache.clear();
+        this.indexVersion++;
+
+        if (this.knownClaims.add(info)) {
+            for (var owner : info.getOwners()) {
+                this.count(info, owner, 1);
+            }
+            info.internal_setTickPhase(this.scheduler.assign());
+            this.index(info);
+            for (var augment : info.getAugmentTypes()) {
+                this.internal_updateAugmentIndex(info, augment, true);
+            }
+        }
+
+        if (this.world instanceof ServerWorld serverWorld) {
+            info.internal_updateChunkCount(serverWorld);
+        }
+        this.internal_updateTickState(info);
     }
 
     @Override
     public void remove(Claim info) {
         this.claims = this.claims.remove(info.getClaimBox());
+        this.sectionCache.clear();
+        this.indexVersion++;
+
+        if (this.knownClaims.remove(info)) {
+            for (var owner : info.getOwners()) {
+                this.count(info, owner, -1);
+            }
+            this.scheduler.release(info.internal_getTickPhase());
+            this.unindex(info);
+            for (var augment : info.getAugmentTypes()) {
+                this.removeFromAugmentIndex(info, augment);
+            }
+        }
+        if (this.tickableClaims.remove(info)) {
+            this.tickableSnapshot = null;
+        }
+    }
+
+    @Override
+    public RTreeMap<ClaimBox, Claim> getClaimsWithAugment(Augment augment) {
+        var claims = this.augmentIndex.get(augment);
+        return claims != null ? claims : EMPTY;
+    }
+
+    @Override
+    public void internal_updateAugmentIndex(Claim claim, Augment augment, boolean present) {
+        if (!present) {
+            this.removeFromAugmentIndex(claim, augment);
+        } else if (this.knownClaims.contains(claim)) {
+            this.augmentIndex.put(augment, this.getClaimsWithAugment(augment).put(claim.getClaimBox(), claim));
+            if (augment instanceof SpawnControllerAugmentBlock) {
+                this.internal_updateSpawnControl(claim);
+            }
+        }
+    }
+
+    @Override
+    public void internal_updateSpawnControl(Claim claim) {
+        if (this.knownClaims.contains(claim) && claim.hasAugment(GOMLBlocks.SPAWN_CONTROLLER.getFirst())) {
+            this.spawnControl.set(claim, SpawnControllerAugmentBlock.getSpawnMask(claim));
+        } else {
+            this.spawnControl.remove(claim);
+        }
+    }
+
+    @Override
+    public boolean internal_canSpawn(BlockPos pos, SpawnGroup group) {
+        return this.spawnControl.canSpawn(pos, group);
+    }
+
+    private void removeFromAugmentIndex(Claim claim, Augment augment) {
+        if (augment instanceof SpawnControllerAugmentBlock) {
+            this.spawnControl.remove(claim);
+        }
+
+        var claims = this.augmentIndex.get(augment);
+        if (claims != null) {
+            claims = claims.remove(claim.getClaimBox());
+            if (claims.isEmpty()) {
+                this.augmentIndex.remove(augment);
+            } else {
+                this.augmentIndex.put(augment, claims);
+            }
+        }
+    }
+
+    private void index(Claim claim) {
+        var box = claim.getClaimBox().toBox();
+        var minX = ChunkSectionPos.getSectionCoord(box.x1());
+        var minZ = ChunkSectionPos.getSectionCoord(box.z1());
+        var maxX = ChunkSectionPos.getSectionCoord(box.x2());
+        var maxZ = ChunkSectionPos.getSectionCoord(box.z2());
+
+        if ((long) (maxX - minX + 1) * (maxZ - minZ + 1) > MAX_INDEXED_CHUNKS) {
+            this.largeClaims.add(claim);
+            return;
+        }
+
+        for (var x = minX; x <= maxX; x++) {
+            for (var z = minZ; z <= maxZ; z++) {
+                this.chunkIndex.computeIfAbsent(ChunkPos.toLong(x, z), k -> new ArrayList<>(1)).add(claim);
+            }
+        }
+    }
+
+    private void unindex(Claim claim) {
+        if (this.largeClaims.remove(claim)) {
+            return;
+        }
+
+        var box = claim.getClaimBox().toBox();
+        var minX = ChunkSectionPos.getSectionCoord(box.x1());
+        var minZ = ChunkSectionPos.getSectionCoord(box.z1());
+        var maxX = ChunkSectionPos.getSectionCoord(box.x2());
+        var maxZ = ChunkSectionPos.getSectionCoord(box.z2());
+
+        for (var x = minX; x <= maxX; x++) {
+            for (var z = minZ; z <= maxZ; z++) {
+                var key = ChunkPos.toLong(x, z);
+                var list = this.chunkIndex.get(key);
+                if (list != null && list.remove(claim) && list.isEmpty()) {
+                    this.chunkIndex.remove(key);
+                }
+            }
+        }
+    }
+
+    @Override
+    public ClaimSectionCache.Section internal_getSection(BlockPos pos) {
+        return this.sectionCache.get(this.claims, pos);
+    }
+
+    @Override
+    public int internal_getIndexVersion() {
+        return this.indexVersion;
+    }
+
+    @Override
+    public void internal_onChunkLoaded(ChunkPos pos) {
+        var list = this.chunkIndex.get(pos.toLong());
+        if (list != null) {
+            for (var claim : list) {
+                claim.internal_incrementChunks();
+            }
+        }
+
+        for (var claim : this.largeClaims) {
+            if (containsChunk(claim, pos)) {
+                claim.internal_incrementChunks();
+            }
+        }
+    }
+
+    @Override
+    public void internal_onChunkUnloaded(ChunkPos pos) {
+        var list = this.chunkIndex.get(pos.toLong());
+        if (list != null) {
+            for (var claim : list) {
+                claim.internal_decrementChunks();
+            }
+        }
+
+        for (var claim : this.largeClaims) {
+            if (containsChunk(claim, pos)) {
+                claim.internal_decrementChunks();
+            }
+        }
+    }
+
+    private static boolean containsChunk(Claim claim, ChunkPos pos) {
+        var box = claim.getClaimBox().toBox();
+        return ChunkSectionPos.getSectionCoord(box.x1()) <= pos.x && ChunkSectionPos.getSectionCoord(box.x2()) >= pos.x
+                && ChunkSectionPos.getSectionCoord(box.z1()) <= pos.z && ChunkSectionPos.getSectionCoord(box.z2()) >= pos.z;
+    }
+
+    @Override
+    public void internal_updateTickState(Claim claim) {
+        var changed = claim.internal_isTickable() && this.knownClaims.contains(claim)
+                ? this.tickableClaims.add(claim)
+                : this.tickableClaims.remove(claim);
+        if (changed) {
+            this.tickableSnapshot = null;
+        }
+    }
+
+    @Override
+    public ScheduledTask schedule(long delay, Consumer<ServerWorld> callback) {
+        return this.timingWheel.schedule(delay, callback);
+    }
+
+    @Override
+    public ScheduledTask schedule(long delay, ScheduledTaskType type, NbtCompound data) {
+        return this.timingWheel.schedule(delay, type, data);
+    }
+
+    @Override
+    public void internal_queueInitialization(BlockEntity blockEntity) {
+        this.timingWheel.schedule(1, world -> {
+            if (blockEntity instanceof ClaimAnchorBlockEntity anchor) {
+                anchor.internal_initialize(world);
+            } else if (blockEntity instanceof ClaimAugmentBlockEntity augment) {
+                augment.internal_initialize(world);
+            }
+        });
+    }
+
+    @Override
+    public void internal_queueRemoval(Claim claim) {
+        this.pendingRemoval.add(claim);
+    }
+
+    private void processQueues(ServerWorld world) {
+        Claim claim;
+        while ((claim = this.pendingRemoval.poll()) != null) {
+            var positions = new ArrayList<BlockPos>(claim.getAugments().size() + 1);
+            positions.add(claim.getOrigin());
+            positions.addAll(claim.getAugments().keySet());
+
+            for (var pos : positions) {
+                if (!world.isChunkLoaded(ChunkSectionPos.getSectionCoord(pos.getX()), ChunkSectionPos.getSectionCoord(pos.getZ()))) {
+                    continue;
+                }
+
+                var be = world.getBlockEntity(pos);
+                if ((be instanceof ClaimAnchorBlockEntity anchor && anchor.getClaim() == claim)
+                        || (be instanceof ClaimAugmentBlockEntity augment && augment.getClaim() == claim)) {
+                    world.breakBlock(pos, true);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void internal_tick(ServerWorld world) {
+        this.processQueues(world);
+        this.timingWheel.tick(world);
+
+        var start = System.nanoTime();
+        var budget = (long) (GetOffMyLawn.CONFIG.claimTickTimeBudget * 1000000);
+        var active = this.activeClaims;
+        active.clear();
+
+        var players = world.getPlayers();
+        var size = players.size();
+        var offset = 0;
+
+        if (budget > 0 && size > 1 && this.playerCursor != null) {
+            // World keeps players in join order, so cursor can only move back when players before it leave
+            offset = Math.min(this.playerCursorIndex, size);
+            var located = false;
+            for (int j = Math.min(offset, size - 1); j >= 0; j--) {
+                if (players.get(j).getUuid().equals(this.playerCursor)) {
+                    offset = j;
+                    located = true;
+                    break;
+                }
+            }
+            if (!located) {
+                offset %= size;
+            }
+        }
+
+        var threshold = GetOffMyLawn.CONFIG.parallelClaimTickPlayerThreshold;
+        var parallel = threshold >= 0 && size >= threshold && !this.tickableClaims.isEmpty();
+        List<Claim>[] found = null;
+        var foundStart = 0;
+        this.playerBacklog = 0;
+
+        for (int i = 0; i < size; i++) {
+            var player = players.get((offset + i) % size);
+            var presence = ((GomlPlayer) player).goml_getClaimPresence();
+
+            // Always process at least one player, so all of them eventually get their events delivered
+            if (budget > 0 && i > 0 && System.nanoTime() - start > budget) {
+                this.playerCursor = player.getUuid();
+                this.playerCursorIndex = (offset + i) % size;
+                this.playerBacklog = size - i;
+
+                // Players not updated this tick still keep their claims active
+                for (int j = i; j < size; j++) {
+                    active.addAll(((GomlPlayer) players.get((offset + j) % size)).goml_getClaimPresence().getClaims());
+                }
+                break;
+            }
+
+            if (this.tickableClaims.isEmpty() && presence.isEmpty()) {
+                continue;
+            }
+
+            var current = presence.startUpdate(player, world);
+
+            if (parallel) {
+                // Resolved in batches, so players skipped because of time budget aren't looked up
+                if (found == null || i >= foundStart + found.length) {
+                    foundStart = i;
+                    found = this.findClaimsParallel(players, offset + i, Math.min(PARALLEL_BATCH_SIZE, size - i));
+                }
+                current.addAll(found[i - foundStart]);
+            } else if (!this.tickableClaims.isEmpty()) {
+                collectClaims(this.claims, this.tickableClaims, player.getBoundingBox(), current);
+            }
+
+            presence.finishUpdate(player);
+            active.addAll(current);
+        }
+
+        // Claim ticks share the budget. Ones that don't fit are deferred, keeping time they were due at
+        var time = world.getTime();
+        for (var claim : active) {
+            this.pendingTicks.putIfAbsent(claim, time);
+        }
+
+        var ticked = 0;
+        while (!this.pendingTicks.isEmpty() && (budget <= 0 || ticked == 0 || System.nanoTime() - start <= budget)) {
+            var claim = this.pendingTicks.firstKey();
+            var dueTime = this.pendingTicks.removeFirstLong();
+            if (!claim.isDestroyed()) {
+                claim.internal_tick(world, dueTime);
+                ticked++;
+            }
+        }
+        this.claimBacklog = this.pendingTicks.size();
+
+        this.lastTickTime = System.nanoTime() - start;
+    }
+
+    /**
+     * Finds tickable claims for a batch of players at once, starting at provided index (wrapping around the list).
+     * It only reads immutable claim tree, snapshot of tickable claims and bounding boxes copied beforehand,
+     * so it can run on multiple threads. Events are still dispatched on server thread afterwards.
+     */
+    @SuppressWarnings("unchecked")
+    private List<Claim>[] findClaimsParallel(List<ServerPlayerEntity> players, int start, int count) {
+        var size = players.size();
+        var boxes = new net.minecraft.util.math.Box[count];
+        for (int i = 0; i < count; i++) {
+            boxes[i] = players.get((start + i) % size).getBoundingBox();
+        }
+
+        var tree = this.claims;
+        var tickable = this.getTickableSnapshot();
+        var found = (List<Claim>[]) new List[count];
+        IntStream.range(0, count).parallel().forEach(i -> {
+            var list = new ArrayList<Claim>(2);
+            collectClaims(tree, tickable, boxes[i], list);
+            found[i] = list;
+        });
+        return found;
+    }
+
+    private Set<Claim> getTickableSnapshot() {
+        var snapshot = this.tickableSnapshot;
+        if (snapshot == null) {
+            // Never modified after creation, so worker threads can read it safely
+            snapshot = Collections.unmodifiableSet(new ReferenceOpenHashSet<>(this.tickableClaims));
+            this.tickableSnapshot = snapshot;
+        }
+        return snapshot;
+    }
+
+    private static void collectClaims(RTreeMap<ClaimBox, Claim> tree, Set<Claim> tickable, net.minecraft.util.math.Box box, Collection<Claim> out) {
+        var checkBox = Box.create(MathHelper.floor(box.minX), MathHelper.floor(box.minY), MathHelper.floor(box.minZ),
+                MathHelper.ceil(box.maxX), MathHelper.ceil(box.maxY), MathHelper.ceil(box.maxZ));
+
+        tree.entries(x -> x.intersectsClosed(checkBox)).forEach(x -> {
+            var claim = x.getValue();
+            if (tickable.contains(claim) && x.getKey().minecraftBox().intersects(box)) {
+                out.add(claim);
+            }
+        });
+    }
+
+    @Override
+    public ClaimTickStats internal_getTickStats() {
+        return new ClaimTickStats(this.knownClaims.size(), this.tickableClaims.size(), this.activeClaims.size(), this.playerBacklog, this.claimBacklog, this.lastTickTime);
+    }
+
+    @Override
+    public int getClaimCount(UUID owner) {
+        return this.ownerClaimCount.getInt(owner);
+    }
+
+    @Override
+    public long getClaimedArea(UUID owner) {
+        return this.ownerClaimedArea.getLong(owner);
+    }
+
+    @Override
+    public void internal_onOwnerAdded(Claim claim, UUID owner) {
+        if (this.knownClaims.contains(claim)) {
+            this.count(claim, owner, 1);
+        }
+    }
+
+    @Override
+    public void internal_onOwnerRemoved(Claim claim, UUID owner) {
+        if (this.knownClaims.contains(claim)) {
+            this.count(claim, owner, -1);
+        }
+    }
+
+    private void count(Claim claim, UUID owner, int change) {
+        var areaChange = change * ClaimUtils.getClaimArea(claim.getClaimBox());
+        var count = this.ownerClaimCount.addTo(owner, change) + change;
+        var area = this.ownerClaimedArea.addTo(owner, areaChange) + areaChange;
+
+        if (count <= 0) {
+            this.ownerClaimCount.removeInt(owner);
+        }
+        if (area <= 0) {
+            this.ownerClaimedArea.removeLong(owner);
+        }
     }
 
     @Override
     public void readFromNbt(NbtCompound tag, RegistryWrapper.WrapperLookup lookup) {
         this.claims = RTreeMap.create(new ConfigurationBuilder().star().build(), ClaimBox::rtree3iBox);
+        this.knownClaims.clear();
+        this.tickableClaims.clear();
+        this.tickableSnapshot = null;
+        this.activeClaims.clear();
+        this.scheduler.clear();
+        this.chunkIndex.clear();
+        this.largeClaims.clear();
+        this.sectionCache.clear();
+        this.indexVersion++;
+        this.augmentIndex.clear();
+        this.spawnControl.clear();
+        this.pendingTicks.clear();
+        this.timingWheel.readNbt(tag.getList("ScheduledTasks", NbtType.COMPOUND));
+        this.ownerClaimCount.clear();
+        this.ownerClaimedArea.clear();
         var world = this.world.getRegistryKey().getValue();
 
         var version = tag.getInt("Version");
@@ -52,9 +547,6 @@ public class WorldClaimComponent implements ClaimComponent {
                     Claim claimInfo = Claim.fromNbt(this.world.getServer(), (NbtCompound) childCompound.get("Info"), version);
                     claimInfo.internal_setWorld(world);
                     claimInfo.internal_setClaimBox(box);
-                    if (this.world instanceof ServerWorld world1) {
-                        claimInfo.internal_updateChunkCount(world1);
-                    }
                     claimInfo.internal_enableUpdates();
                     add(claimInfo);
                 }
@@ -63,9 +555,6 @@ public class WorldClaimComponent implements ClaimComponent {
             nbtList.forEach(child -> {
                 Claim claimInfo = Claim.fromNbt(this.world.getServer(), (NbtCompound) child, version);
                 claimInfo.internal_setWorld(world);
-                if (this.world instanceof ServerWorld world1) {
-                    claimInfo.internal_updateChunkCount(world1);
-                }
                 claimInfo.internal_enableUpdates();
                 add(claimInfo);
             });
@@ -80,6 +569,7 @@ public class WorldClaimComponent implements ClaimComponent {
         claims.values().forEach(claim -> nbtListClaims.add(claim.asNbt()));
 
         tag.put("Claims", nbtListClaims);
+        tag.put("ScheduledTasks", this.timingWheel.writeNbt());
     }
 
     @Nullable
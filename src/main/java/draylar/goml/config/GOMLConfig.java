@@ -6,6 +6,7 @@ import com.jamieswhiteshirt.rtree3i.Box;
 import draylar.goml.GetOffMyLawn;
 import draylar.goml.other.WrappedText;
 import draylar.goml.registry.GOMLBlocks;
+import draylar.goml.registry.GOMLTags;
 import net.fabricmc.loader.api.FabricLoader;
 import net.minecraft.block.Block;
 import net.minecraft.entity.Entity;
@@ -32,6 +33,8 @@ public class GOMLConfig {
     public int witheredRadius = 200;
 
     public int maxClaimsPerPlayer = -1;
+    public int maxClaimsPerPlayerGlobal = -1;
+    public long maxClaimedAreaPerPlayer = -1;
     public boolean enablePvPinClaims = false;
     public boolean allowDamagingUnnamedHostileMobs = true;
     public boolean allowDamagingNamedHostileMobs = false;
@@ -42,6 +45,8 @@ public class GOMLConfig {
     public boolean allowClaimOverlappingIfSameOwner = false;
     public boolean allowFakePlayersToModify = false;
     public boolean protectAgainstHostileExplosionsActivatedByTrustedPlayers = false;
+    public double claimTickTimeBudget = 5;
+    public int parallelClaimTickPlayerThreshold = 200;
 
     public Set<Identifier> dimensionBlacklist = new HashSet<>();
     public Map<Identifier, List<Box>> regionBlacklist = new HashMap<>();
@@ -62,12 +67,53 @@ public class GOMLConfig {
 
     public String claimColorSource = "location";
 
+    private transient boolean[] interactableBlocks;
+    private transient boolean[] interactableEntities;
+
+    /**
+     * Checks if block is allowed to be interacted with, either through config or {@link GOMLTags#ALLOWED_INTERACTIONS_BLOCKS}.
+     */
     public boolean canInteract(Block block) {
-        return this.allowedBlockInteraction.contains(block);
+        var cache = this.interactableBlocks;
+        var id = Registries.BLOCK.getRawId(block);
+        if (cache != null && id >= 0 && id < cache.length) {
+            return cache[id];
+        }
+        return this.allowedBlockInteraction.contains(block) || block.getRegistryEntry().isIn(GOMLTags.ALLOWED_INTERACTIONS_BLOCKS);
     }
 
+    /**
+     * Checks if entity is allowed to be interacted with, either through config or {@link GOMLTags#ALLOWED_INTERACTIONS_ENTITY}.
+     */
     public boolean canInteract(Entity entity) {
-        return this.allowedEntityInteraction.contains(entity.getType());
+        var type = entity.getType();
+        var cache = this.interactableEntities;
+        var id = Registries.ENTITY_TYPE.getRawId(type);
+        if (cache != null && id >= 0 && id < cache.length) {
+            return cache[id];
+        }
+        return this.allowedEntityInteraction.contains(type) || type.isIn(GOMLTags.ALLOWED_INTERACTIONS_ENTITY);
+    }
+
+    /**
+     * Flattens allowed interaction lists and tags into arrays indexed by raw registry id.
+     * Needs to be called again after tags get reloaded.
+     */
+    public void compileInteractionLists() {
+        var blocks = new boolean[Registries.BLOCK.size()];
+        for (var block : Registries.BLOCK) {
+            blocks[Registries.BLOCK.getRawId(block)] = this.allowedBlockInteraction.contains(block)
+                    || block.getRegistryEntry().isIn(GOMLTags.ALLOWED_INTERACTIONS_BLOCKS);
+        }
+
+        var entities = new boolean[Registries.ENTITY_TYPE.size()];
+        for (var type : Registries.ENTITY_TYPE) {
+            entities[Registries.ENTITY_TYPE.getRawId(type)] = this.allowedEntityInteraction.contains(type)
+                    || type.isIn(GOMLTags.ALLOWED_INTERACTIONS_ENTITY);
+        }
+
+        this.interactableBlocks = blocks;
+        this.interactableEntities = entities;
     }
 
     public boolean isBlacklisted(World world, Box claimBox) {
@@ -119,6 +165,7 @@ public class GOMLConfig {
             }
 
             saveConfig(config);
+            config.compileInteractionLists();
             return config;
         }
         catch(IOException exception) {
@@ -5,6 +5,7 @@ import draylar.goml.api.ClaimUtils;
 import draylar.goml.block.ClaimAnchorBlock;
 import me.lucko.fabric.api.permissions.v0.Options;
 import net.minecraft.block.BlockState;
+import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemPlacementContext;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
@@ -46,32 +47,31 @@ public class ClaimAnchorBlockItem extends TooltippedBlockItem {
         var checkBox = ClaimUtils.createClaimBox(pos, radius);
 
         if (!ClaimUtils.isInAdminMode(context.getPlayer())) {
-            var count = ClaimUtils.getClaimsOwnedBy(context.getWorld(), context.getPlayer().getUuid()).count();
+            var player = context.getPlayer();
+            var count = ClaimUtils.getClaimCount(context.getWorld(), player.getUuid());
 
-            int maxCount;
-            var allowedCount = Options.get(context.getPlayer(), "goml.claim_limit");
-            var allowedCount2 = Options.get(context.getPlayer(), "goml.claim_limit." + context.getWorld().getRegistryKey().getValue().toString());
-
-            if (allowedCount2.isPresent()) {
-                try {
-                    maxCount = Integer.parseInt(allowedCount2.get());
-                } catch (Throwable t) {
-                    maxCount = GetOffMyLawn.CONFIG.maxClaimsPerPlayer;
-                }
-            } else if (allowedCount.isPresent()) {
-                try {
-                    maxCount = Integer.parseInt(allowedCount.get());
-                } catch (Throwable t) {
-                    maxCount = GetOffMyLawn.CONFIG.maxClaimsPerPlayer;
-                }
-            } else {
-                maxCount = GetOffMyLawn.CONFIG.maxClaimsPerPlayer;
-            }
+            var maxCount = getLimit(player, "goml.claim_limit." + context.getWorld().getRegistryKey().getValue().toString(),
+                    getLimit(player, "goml.claim_limit", GetOffMyLawn.CONFIG.maxClaimsPerPlayer));
 
             if (maxCount != -1
                     && count >= maxCount
             ) {
-                context.getPlayer().sendMessage(GetOffMyLawn.CONFIG.prefix(Text.translatable("text.goml.cant_place_claim.max_count_reached", count, GetOffMyLawn.CONFIG.maxClaimsPerPlayer).formatted(Formatting.RED)), false);
+                player.sendMessage(GetOffMyLawn.CONFIG.prefix(Text.translatable("text.goml.cant_place_claim.max_count_reached", count, maxCount).formatted(Formatting.RED)), false);
+                return false;
+            }
+
+            var maxGlobalCount = getLimit(player, "goml.global_claim_limit", GetOffMyLawn.CONFIG.maxClaimsPerPlayerGlobal);
+
+            if (maxGlobalCount != -1) {
+                var globalCount = ClaimUtils.getClaimCount(player.getServer(), player.getUuid());
+
+                if (globalCount >= maxGlobalCount) {
+                    player.sendMessage(GetOffMyLawn.CONFIG.prefix(Text.translatable("text.goml.cant_place_claim.max_global_count_reached", globalCount, maxGlobalCount).formatted(Formatting.RED)), false);
+                    return false;
+                }
+            }
+
+            if (!canClaimArea(player, ClaimUtils.getClaimArea(checkBox))) {
                 return false;
             }
 
@@ -110,4 +110,37 @@ public class ClaimAnchorBlockItem extends TooltippedBlockItem {
 
 
     }
+
+    /**
+     * Checks if player can claim additional area without going over their claimed area limit. Notifies player if not.
+     * Admin mode needs to be checked separately.
+     */
+    public static boolean canClaimArea(PlayerEntity player, long additionalArea) {
+        var maxArea = getLimit(player, "goml.claimed_area_limit", GetOffMyLawn.CONFIG.maxClaimedAreaPerPlayer);
+
+        if (maxArea != -1 && additionalArea > 0) {
+            var area = ClaimUtils.getClaimedArea(player.getServer(), player.getUuid());
+
+            if (area + additionalArea > maxArea) {
+                player.sendMessage(GetOffMyLawn.CONFIG.prefix(Text.translatable("text.goml.cant_place_claim.max_area_reached", area, maxArea).formatted(Formatting.RED)), false);
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static long getLimit(PlayerEntity player, String option, long fallback) {
+        var value = Options.get(player, option);
+
+        if (value.isPresent()) {
+            try {
+                return Long.parseLong(value.get());
+            } catch (Throwable t) {
+                return fallback;
+            }
+        }
+
+        return fallback;
+    }
 }
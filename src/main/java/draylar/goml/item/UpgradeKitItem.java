@@ -20,7 +20,6 @@ import net.minecraft.item.ItemUsageContext;
 import net.minecraft.item.tooltip.TooltipType;
 import net.minecraft.registry.RegistryWrapper;
 import net.minecraft.server.network.ServerPlayerEntity;
-import net.minecraft.server.world.ServerWorld;
 import net.minecraft.text.Text;
 import net.minecraft.util.ActionResult;
 import net.minecraft.util.Formatting;
@@ -86,6 +85,11 @@ public class UpgradeKitItem extends Item implements PolymerItem {
                         var claimInfo = currentClaim.get().getValue();
                         var oldSize = claimInfo.getClaimBox();
 
+                        if (!ClaimUtils.isInAdminMode(context.getPlayer())
+                                && !ClaimAnchorBlockItem.canClaimArea(context.getPlayer(), ClaimUtils.getClaimArea(newBox) - ClaimUtils.getClaimArea(oldSize))) {
+                            return ActionResult.FAIL;
+                        }
+
                         // remove claim
                         GetOffMyLawn.CLAIM.get(world).remove(claimInfo);
 
@@ -99,9 +103,6 @@ public class UpgradeKitItem extends Item implements PolymerItem {
                         claimInfo.internal_setType(this.to);
 
                         claimInfo.internal_setClaimBox(newBox);
-                        if (world instanceof ServerWorld world1) {
-                            claimInfo.internal_updateChunkCount(world1);
-                        }
                         claimInfo.internal_setWorld(currentClaim.get().getValue().getWorld());
                         GetOffMyLawn.CLAIM.get(world).add(claimInfo);
 
@@ -5,6 +5,7 @@ import com.jamieswhiteshirt.rtree3i.Selection;
 import draylar.goml.api.ClaimBox;
 import draylar.goml.api.Claim;
 import draylar.goml.api.ClaimUtils;
+import draylar.goml.api.PermissionReason;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.fluid.Fluid;
 import net.minecraft.fluid.Fluids;
@@ -48,7 +49,7 @@ public class BucketItemMixin extends Item {
         Selection<Entry<ClaimBox, Claim>> claimsFound = ClaimUtils.getClaimsAt(world, blockPos);
 
         if (!claimsFound.isEmpty()) {
-            boolean noPermission = claimsFound.anyMatch((Entry<ClaimBox, Claim> boxInfo) -> !boxInfo.getValue().hasPermission(user));
+            boolean noPermission = claimsFound.anyMatch((Entry<ClaimBox, Claim> boxInfo) -> !boxInfo.getValue().hasPermission(user, PermissionReason.AREA_PROTECTED));
 
             if(noPermission) {
                 user.sendMessage(Text.literal("This block is protected by a claim."), true);
@@ -1,13 +1,17 @@
 package draylar.goml.mixin;
 
+import draylar.goml.GetOffMyLawn;
+import draylar.goml.api.Claim;
 import draylar.goml.api.ClaimUtils;
 import draylar.goml.other.LegacyNbtHelper;
 import draylar.goml.other.OriginOwner;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.damage.DamageSource;
 import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.Unique;
@@ -22,9 +26,19 @@ public abstract class EntityMixin implements OriginOwner {
 
     @Shadow public abstract BlockPos getBlockPos();
 
+    @Unique
+    private static final Claim[] NO_CLAIMS = new Claim[0];
+
     @Unique
     private BlockPos originPos;
 
+    @Unique
+    @Nullable
+    private Claim[] originClaims;
+
+    @Unique
+    private int originIndexVersion;
+
     @Inject(method = "isAlwaysInvulnerableTo", at = @At("HEAD"), cancellable = true)
     private void goml$isInvulnerable(DamageSource damageSource, CallbackInfoReturnable<Boolean> cir) {
         if (!ClaimUtils.canDamageEntity(this.world, (Entity) (Object) this, damageSource)) {
@@ -34,15 +48,23 @@ public abstract class EntityMixin implements OriginOwner {
 
     @Inject(method = "writeNbt", at = @At("TAIL"))
     private void writeGomlNbt(NbtCompound nbt, CallbackInfoReturnable<NbtCompound> cir) {
-        if (this.originPos != null) {
-            nbt.put("goml:origin", LegacyNbtHelper.fromBlockPos(this.originPos));
+        // Origins in unclaimed area aren't stored, as missing origin is read back as unclaimed one
+        if (this.originPos != null && OriginOwner.isOriginRelevant((Entity) (Object) this) && this.goml$getOriginClaims().length != 0) {
+            nbt.putLong("goml:origin", this.originPos.asLong());
         }
     }
 
     @Inject(method = "readNbt", at = @At("TAIL"))
     private void readGomlNbt(NbtCompound nbt, CallbackInfo ci) {
-        if (nbt.contains("goml:origin")) {
+        if (nbt.contains("goml:origin", NbtElement.LONG_TYPE)) {
+            this.originPos = BlockPos.fromLong(nbt.getLong("goml:origin"));
+            this.originClaims = null;
+        } else if (nbt.contains("goml:origin", NbtElement.COMPOUND_TYPE)) {
             this.originPos = LegacyNbtHelper.toBlockPos(nbt.getCompound("goml:origin"));
+            this.originClaims = null;
+        } else {
+            this.originPos = null;
+            this.originClaims = NO_CLAIMS;
         }
     }
 
@@ -54,10 +76,27 @@ public abstract class EntityMixin implements OriginOwner {
     @Override
     public void goml$setOrigin(BlockPos pos) {
         this.originPos = pos;
+        this.originClaims = null;
     }
 
     @Override
     public void goml$tryFilling() {
         this.originPos = this.getBlockPos();
+        this.originClaims = null;
+    }
+
+    @Override
+    public Claim[] goml$getOriginClaims() {
+        var claims = this.originClaims;
+        var version = GetOffMyLawn.CLAIM.get(this.world).internal_getIndexVersion();
+
+        // Missing origin read from nbt stays unclaimed, as actual position is unknown
+        if (claims == null || (this.originIndexVersion != version && this.originPos != null)) {
+            claims = ClaimUtils.getClaimArrayAt(this.world, this.goml$getOriginSafe());
+            this.originClaims = claims;
+            this.originIndexVersion = version;
+        }
+
+        return claims;
     }
 }
@@ -1,22 +1,20 @@
 package draylar.goml.mixin;
 
-import draylar.goml.api.ClaimUtils;
-import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import draylar.goml.other.ExplosionClaimContext;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.world.World;
-import net.minecraft.world.explosion.Explosion;
+import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.explosion.ExplosionImpl;
 import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.ModifyVariable;
-import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 import java.util.List;
@@ -28,14 +26,33 @@ public abstract class ExplosionMixin {
 
     @Shadow @Final private ServerWorld world;
 
+    @Shadow public abstract Vec3d getPosition();
+
+    @Shadow public abstract float getPower();
+
+    @Unique
+    @Nullable
+    private ExplosionClaimContext goml_claimContext;
+
+    @Unique
+    private ExplosionClaimContext goml_getClaimContext() {
+        if (this.goml_claimContext == null) {
+            // Entities are affected within twice the power, blocks never reach that far
+            this.goml_claimContext = ExplosionClaimContext.create(this.world, this.getCausingEntity(), this.getPosition(), this.getPower() * 2 + 1);
+        }
+        return this.goml_claimContext;
+    }
+
     @Inject(method = "getBlocksToDestroy", at = @At("TAIL"))
     private void goml_clearBlocks(CallbackInfoReturnable<List<BlockPos>> cir) {
-        cir.getReturnValue().removeIf((b) -> !ClaimUtils.canExplosionDestroy(this.world, b, this.getCausingEntity()));
+        var context = this.goml_getClaimContext();
+        cir.getReturnValue().removeIf((b) -> !context.canDestroy(b));
     }
 
     @ModifyVariable(method = "damageEntities", at = @At("STORE"), ordinal = 0)
     private List<Entity> goml_clearEntities(List<Entity> x) {
-        x.removeIf((e) -> !ClaimUtils.canExplosionDestroy(this.world, e.getBlockPos(), this.getCausingEntity()));
+        var context = this.goml_getClaimContext();
+        x.removeIf((e) -> !context.canDestroy(e.getBlockPos()));
         return x;
     }
 }
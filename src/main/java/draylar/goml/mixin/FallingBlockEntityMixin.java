@@ -28,7 +28,7 @@ public abstract class FallingBlockEntityMixin extends Entity implements OriginOw
     @ModifyExpressionValue(method = "tick", at = @At(value = "INVOKE", target = "Lnet/minecraft/block/BlockState;canPlaceAt(Lnet/minecraft/world/WorldView;Lnet/minecraft/util/math/BlockPos;)Z"))
     private boolean cantPlaceOnClaim(boolean bool, @Local(ordinal = 0) BlockPos pos) {
         if (bool) {
-            return ClaimUtils.hasMatchingClaims(this.getWorld(), pos, this.goml$getOriginSafe());
+            return ClaimUtils.hasMatchingClaims(this.getWorld(), pos, this.goml$getOriginClaims());
         }
 
         return false;
@@ -36,7 +36,7 @@ public abstract class FallingBlockEntityMixin extends Entity implements OriginOw
 
     @Inject(method = "handleFallDamage", at = @At(value = "INVOKE", target = "Lnet/minecraft/util/math/MathHelper;ceil(F)I", ordinal = 0), cancellable = true)
     private void blockFallDamage(float fallDistance, float damageMultiplier, DamageSource damageSource, CallbackInfoReturnable<Boolean> cir) {
-        if (!ClaimUtils.hasMatchingClaims(this.getWorld(), this.getBlockPos(), this.goml$getOriginSafe())) {
+        if (!ClaimUtils.hasMatchingClaims(this.getWorld(), this.getBlockPos(), this.goml$getOriginClaims())) {
             cir.setReturnValue(false);
         }
     }
@@ -0,0 +1,75 @@
+package draylar.goml.mixin;
+
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import draylar.goml.GetOffMyLawn;
+import draylar.goml.api.Claim;
+import draylar.goml.api.ClaimUtils;
+import draylar.goml.other.ClaimTransferCache;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.HopperBlock;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.block.entity.Hopper;
+import net.minecraft.block.entity.HopperBlockEntity;
+import net.minecraft.inventory.Inventory;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+
+@Mixin(HopperBlockEntity.class)
+public abstract class HopperBlockEntityMixin implements ClaimTransferCache {
+    @Unique
+    private int indexVersion = -1;
+    @Unique
+    private Claim[] claims;
+    @Unique
+    private final long[] targets = new long[2];
+    @Unique
+    private final Claim[][] targetClaims = new Claim[2][];
+
+    @WrapOperation(method = "insert", at = @At(value = "INVOKE", target = "Lnet/minecraft/block/entity/HopperBlockEntity;getOutputInventory(Lnet/minecraft/world/World;Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/block/entity/HopperBlockEntity;)Lnet/minecraft/inventory/Inventory;"))
+    private static Inventory protectOutput(World world, BlockPos pos, HopperBlockEntity blockEntity, Operation<Inventory> original) {
+        var target = pos.offset(blockEntity.getCachedState().get(HopperBlock.FACING));
+        if (!((ClaimTransferCache) blockEntity).goml$canTransfer(world, pos, target, OUTPUT)) {
+            return null;
+        }
+        return original.call(world, pos, blockEntity);
+    }
+
+    @WrapOperation(method = "extract(Lnet/minecraft/world/World;Lnet/minecraft/block/entity/Hopper;)Z", at = @At(value = "INVOKE", target = "Lnet/minecraft/block/entity/HopperBlockEntity;getInputInventory(Lnet/minecraft/world/World;Lnet/minecraft/block/entity/Hopper;Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/block/BlockState;)Lnet/minecraft/inventory/Inventory;"))
+    private static Inventory protectInput(World world, Hopper hopper, BlockPos pos, BlockState state, Operation<Inventory> original) {
+        boolean allowed;
+        if (hopper instanceof ClaimTransferCache cache && hopper instanceof BlockEntity blockEntity) {
+            allowed = cache.goml$canTransfer(world, blockEntity.getPos(), pos, INPUT);
+        } else {
+            // Hopper minecarts move around, so they are checked directly
+            allowed = !ClaimUtils.isClaimed(world, pos)
+                    || ClaimUtils.hasMatchingClaims(world, pos, BlockPos.ofFloored(hopper.getHopperX(), hopper.getHopperY(), hopper.getHopperZ()));
+        }
+
+        return allowed ? original.call(world, hopper, pos, state) : null;
+    }
+
+    @Override
+    public boolean goml$canTransfer(World world, BlockPos hopperPos, BlockPos target, int side) {
+        var version = GetOffMyLawn.CLAIM.get(world).internal_getIndexVersion();
+        if (this.indexVersion != version || this.claims == null) {
+            this.indexVersion = version;
+            this.claims = ClaimUtils.getClaimArrayAt(world, hopperPos);
+            this.targetClaims[INPUT] = null;
+            this.targetClaims[OUTPUT] = null;
+        }
+
+        var targetClaims = this.targetClaims[side];
+        if (targetClaims == null || this.targets[side] != target.asLong()) {
+            targetClaims = ClaimUtils.getClaimArrayAt(world, target);
+            this.targetClaims[side] = targetClaims;
+            this.targets[side] = target.asLong();
+        }
+
+        // Permissions are checked every time, as trust can change without claims moving
+        return ClaimUtils.hasMatchingClaims(targetClaims, this.claims);
+    }
+}
@@ -1,6 +1,8 @@
 package draylar.goml.mixin;
 
+import com.jamieswhiteshirt.rtree3i.Box;
 import com.llamalad7.mixinextras.injector.ModifyReturnValue;
+import draylar.goml.api.Claim;
 import draylar.goml.api.ClaimUtils;
 import net.minecraft.block.piston.PistonHandler;
 import net.minecraft.util.math.BlockPos;
@@ -14,9 +16,8 @@ import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 @Mixin(PistonHandler.class)
 public class PistonHandlerMixin {
@@ -25,24 +26,19 @@ public class PistonHandlerMixin {
     @Shadow @Final private World world;
     @Shadow @Final private Direction motionDirection;
     @Unique
-    private boolean claimsEmpty;
-    private HashSet<UUID> trusted;
+    private Claim[] originClaims;
 
     @Inject(method = "<init>", at = @At("TAIL"))
     private void storeClaimInfo(World world, BlockPos pos, Direction dir, boolean retracted, CallbackInfo ci) {
-        var claims = ClaimUtils.getClaimsAt(world, pos);
-        this.claimsEmpty = claims.isEmpty();
-        this.trusted = new HashSet<>();
-        claims.forEach(x -> {
-            this.trusted.addAll(x.getValue().getOwners());
-            this.trusted.addAll(x.getValue().getTrusted());
-        });
+        var claims = new ArrayList<Claim>();
+        ClaimUtils.getClaimsAt(world, pos).forEach(x -> claims.add(x.getValue()));
+        this.originClaims = claims.toArray(new Claim[0]);
     }
 
     @ModifyReturnValue(method = "calculatePush", at = @At("RETURN"))
     private boolean preventMovement(boolean value) {
         if (value) {
-            if (!checkClaims(this.movedBlocks) || !checkClaims(this.brokenBlocks)) {
+            if (!checkClaims()) {
                 this.movedBlocks.clear();
                 this.brokenBlocks.clear();
                 return false;
@@ -53,30 +49,77 @@ public class PistonHandlerMixin {
         return false;
     }
 
-    private boolean checkClaims(List<BlockPos> blocks) {
-        for (var pos : blocks) {
-            var claims = ClaimUtils.getClaimsAt(this.world, pos);
+    @Unique
+    private boolean checkClaims() {
+        if (this.movedBlocks.isEmpty() && this.brokenBlocks.isEmpty()) {
+            return true;
+        }
 
-            boolean firstFound = true;
+        // Query claims affected by whole push at once, including positions blocks are moved into
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
 
-            if (claims.isEmpty() && this.claimsEmpty) {
-                firstFound = false;
+        for (var list : List.of(this.movedBlocks, this.brokenBlocks)) {
+            for (var pos : list) {
+                minX = Math.min(minX, pos.getX());
+                minY = Math.min(minY, pos.getY());
+                minZ = Math.min(minZ, pos.getZ());
+                maxX = Math.max(maxX, pos.getX());
+                maxY = Math.max(maxY, pos.getY());
+                maxZ = Math.max(maxZ, pos.getZ());
             }
+        }
 
-            if (firstFound && claims.noneMatch(x -> x.getValue().hasPermission(this.trusted))) {
-                return false;
-            }
+        var offsetX = this.motionDirection.getOffsetX();
+        var offsetY = this.motionDirection.getOffsetY();
+        var offsetZ = this.motionDirection.getOffsetZ();
+        var checkBox = Box.create(
+                Math.min(minX, minX + offsetX), Math.min(minY, minY + offsetY), Math.min(minZ, minZ + offsetZ),
+                Math.max(maxX, maxX + offsetX) + 1, Math.max(maxY, maxY + offsetY) + 1, Math.max(maxZ, maxZ + offsetZ) + 1
+        );
+
+        var found = new ArrayList<Claim>();
+        ClaimUtils.getClaimsInOpenBox(this.world, checkBox).forEach(x -> found.add(x.getValue()));
+
+        if (found.isEmpty() && this.originClaims.length == 0) {
+            return true;
+        }
 
-            var mut = new BlockPos.Mutable();
-            claims = ClaimUtils.getClaimsAt(this.world, mut.set(pos).move(this.motionDirection));
-            if (claims.isEmpty() && this.claimsEmpty) {
-                continue;
+        var claims = found.toArray(new Claim[0]);
+        var allowed = new boolean[claims.length];
+        for (int i = 0; i < claims.length; i++) {
+            for (var origin : this.originClaims) {
+                if (claims[i].hasPermission(origin)) {
+                    allowed[i] = true;
+                    break;
+                }
             }
+        }
 
-            if (claims.noneMatch(x -> x.getValue().hasPermission(this.trusted))) {
-                return false;
+        var mut = new BlockPos.Mutable();
+        for (var list : List.of(this.movedBlocks, this.brokenBlocks)) {
+            for (var pos : list) {
+                if (!this.canAffect(claims, allowed, pos) || !this.canAffect(claims, allowed, mut.set(pos).move(this.motionDirection))) {
+                    return false;
+                }
             }
         }
         return true;
     }
+
+    @Unique
+    private boolean canAffect(Claim[] claims, boolean[] allowed, BlockPos pos) {
+        var claimed = false;
+        for (int i = 0; i < claims.length; i++) {
+            if (claims[i].getClaimBox().contains(pos)) {
+                if (allowed[i]) {
+                    return true;
+                }
+                claimed = true;
+            }
+        }
+
+        // Pistons inside claims can only affect blocks in claims trusting them
+        return !claimed && this.originClaims.length == 0;
+    }
 }
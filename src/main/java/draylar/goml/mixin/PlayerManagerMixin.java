@@ -2,6 +2,7 @@ package draylar.goml.mixin;
 
 import draylar.goml.block.augment.HeavenWingsAugmentBlock;
 import draylar.goml.api.event.ServerPlayerUpdateEvents;
+import draylar.goml.other.GomlPlayer;
 import io.github.ladysnake.pal.VanillaAbilities;
 import net.minecraft.network.ClientConnection;
 import net.minecraft.server.PlayerManager;
@@ -17,6 +18,7 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 public class PlayerManagerMixin {
     @Inject(method = "remove", at = @At("HEAD"))
     private void goml_remove(ServerPlayerEntity player, CallbackInfo ci) {
+        ((GomlPlayer) player).goml_getClaimPresence().exitAll(player);
         HeavenWingsAugmentBlock.HEAVEN_WINGS.revokeFrom(player, VanillaAbilities.ALLOW_FLYING);
     }
 
@@ -33,14 +33,14 @@ public abstract class ProjectileEntityMixin extends Entity implements OriginOwne
 
     @Inject(method = "onCollision", at = @At("HEAD"), cancellable = true)
     private void preventEffects(HitResult hitResult, CallbackInfo ci) {
-        if (!ClaimUtils.hasMatchingClaims(this.getWorld(), this.getBlockPos(), this.goml$getOriginSafe(), this.ownerUuid)) {
+        if (!ClaimUtils.hasMatchingClaims(this.getWorld(), this.getBlockPos(), this.goml$getOriginClaims(), this.ownerUuid)) {
             ci.cancel();
         }
     }
 
     @Inject(method = "canModifyAt", at = @At("HEAD"), cancellable = true)
     private void preventModification(ServerWorld world, BlockPos pos, CallbackInfoReturnable<Boolean> cir) {
-        if (!ClaimUtils.hasMatchingClaims(this.getWorld(), this.getBlockPos(), this.goml$getOriginSafe(), this.ownerUuid)) {
+        if (!ClaimUtils.hasMatchingClaims(this.getWorld(), this.getBlockPos(), this.goml$getOriginClaims(), this.ownerUuid)) {
             cir.setReturnValue(false);
         }
     }
@@ -0,0 +1,74 @@
+package draylar.goml.mixin;
+
+import draylar.goml.block.augment.ForceFieldAugmentBlock;
+import draylar.goml.registry.GOMLBlocks;
+import net.minecraft.network.packet.c2s.play.PlayerMoveC2SPacket;
+import net.minecraft.network.packet.c2s.play.VehicleMoveC2SPacket;
+import net.minecraft.network.packet.s2c.play.VehicleMoveS2CPacket;
+import net.minecraft.server.network.ServerPlayNetworkHandler;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.math.Vec3d;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(ServerPlayNetworkHandler.class)
+public abstract class ServerPlayNetworkHandlerMixin {
+    @Shadow
+    public ServerPlayerEntity player;
+
+    @Shadow
+    @Nullable
+    private Vec3d requestedTeleportPos;
+
+    @Shadow
+    public abstract void requestTeleport(double x, double y, double z, float yaw, float pitch);
+
+    @Inject(method = "onPlayerMove", at = @At("HEAD"), cancellable = true)
+    private void goml_blockForceFieldMove(PlayerMoveC2SPacket packet, CallbackInfo ci) {
+        // Packet is first received off-thread and then rescheduled, only handle it once on server thread
+        if (!packet.changesPosition() || this.requestedTeleportPos != null || this.player.hasVehicle() || !this.player.server.isOnThread()) {
+            return;
+        }
+
+        var to = new Vec3d(packet.getX(this.player.getX()), packet.getY(this.player.getY()), packet.getZ(this.player.getZ()));
+
+        if (GOMLBlocks.FORCE_FIELD.getFirst() instanceof ForceFieldAugmentBlock forceField && forceField.isBlockedMove(this.player, this.player.getPos(), to)) {
+            forceField.onBlockedMove(this.player, to);
+            this.requestTeleport(this.player.getX(), this.player.getY(), this.player.getZ(), packet.getYaw(this.player.getYaw()), packet.getPitch(this.player.getPitch()));
+            ci.cancel();
+        }
+    }
+
+    @Inject(method = "onVehicleMove", at = @At("HEAD"), cancellable = true)
+    private void goml_blockForceFieldVehicleMove(VehicleMoveC2SPacket packet, CallbackInfo ci) {
+        if (this.requestedTeleportPos != null || !this.player.server.isOnThread()) {
+            return;
+        }
+
+        var vehicle = this.player.getRootVehicle();
+
+        // Only controlling passenger sends vehicle movement, vehicles moved by server are handled by claim enter detection
+        if (vehicle == this.player || vehicle.getControllingPassenger() != this.player) {
+            return;
+        }
+
+        var offset = packet.position().subtract(vehicle.getPos());
+
+        if (GOMLBlocks.FORCE_FIELD.getFirst() instanceof ForceFieldAugmentBlock forceField) {
+            // Presence is decided by passengers bounding boxes, so check every player carried by this vehicle
+            for (var passenger : vehicle.getPassengersDeep()) {
+                if (passenger instanceof ServerPlayerEntity playerPassenger
+                        && forceField.isBlockedMove(playerPassenger, playerPassenger.getBoundingBox(), playerPassenger.getBoundingBox().offset(offset))) {
+                    forceField.onBlockedMove(playerPassenger, playerPassenger.getPos().add(offset));
+                    this.player.networkHandler.sendPacket(VehicleMoveS2CPacket.fromVehicle(vehicle));
+                    ci.cancel();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package draylar.goml.mixin;
 
 import draylar.goml.other.GomlPlayer;
+import draylar.goml.other.InteractionMemo;
+import draylar.goml.other.PlayerClaimPresence;
+import draylar.goml.other.StatusEffectLeases;
 import net.minecraft.server.network.ServerPlayerEntity;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
@@ -14,9 +17,19 @@ public class ServerPlayerEntityMixin implements GomlPlayer {
     @Unique
     private boolean goml_adminMode = false;
 
+    @Unique
+    private final InteractionMemo goml_interactionMemo = new InteractionMemo();
+
+    @Unique
+    private final PlayerClaimPresence goml_claimPresence = new PlayerClaimPresence();
+
+    @Unique
+    private final StatusEffectLeases goml_effectLeases = new StatusEffectLeases();
+
     @Inject(method = "copyFrom", at = @At("HEAD"))
     private void goml_copyAdminMode(ServerPlayerEntity oldPlayer, boolean alive, CallbackInfo ci) {
         this.goml_adminMode = ((GomlPlayer) oldPlayer).goml_getAdminMode();
+        ((GomlPlayer) oldPlayer).goml_getClaimPresence().exitAll(oldPlayer);
     }
 
     @Override
@@ -28,4 +41,19 @@ public class ServerPlayerEntityMixin implements GomlPlayer {
     public boolean goml_getAdminMode() {
         return this.goml_adminMode;
     }
+
+    @Override
+    public InteractionMemo goml_getInteractionMemo() {
+        return this.goml_interactionMemo;
+    }
+
+    @Override
+    public PlayerClaimPresence goml_getClaimPresence() {
+        return this.goml_claimPresence;
+    }
+
+    @Override
+    public StatusEffectLeases goml_getEffectLeases() {
+        return this.goml_effectLeases;
+    }
 }
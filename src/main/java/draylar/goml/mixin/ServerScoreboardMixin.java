@@ -1,5 +1,6 @@
 package draylar.goml.mixin;
 
+import draylar.goml.api.Claim;
 import draylar.goml.other.VanillaTeamGroups;
 import net.minecraft.scoreboard.ServerScoreboard;
 import net.minecraft.scoreboard.Team;
@@ -7,6 +8,7 @@ import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 @Mixin(ServerScoreboard.class)
 public class ServerScoreboardMixin {
@@ -14,4 +16,14 @@ public class ServerScoreboardMixin {
     private void goml$removeTeamFromClaims(Team team, CallbackInfo ci) {
         VanillaTeamGroups.onRemove(team);
     }
+
+    @Inject(method = "addScoreHolderToTeam", at = @At("RETURN"))
+    private void goml$onTeamJoin(String scoreHolderName, Team team, CallbackInfoReturnable<Boolean> cir) {
+        Claim.internal_onMembershipChanged();
+    }
+
+    @Inject(method = "removeScoreHolderFromTeam", at = @At("TAIL"))
+    private void goml$onTeamLeave(String scoreHolderName, Team team, CallbackInfo ci) {
+        Claim.internal_onMembershipChanged();
+    }
 }
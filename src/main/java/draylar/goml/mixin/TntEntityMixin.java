@@ -5,6 +5,7 @@ import com.jamieswhiteshirt.rtree3i.Selection;
 import draylar.goml.api.ClaimBox;
 import draylar.goml.api.Claim;
 import draylar.goml.api.ClaimUtils;
+import draylar.goml.api.PermissionReason;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.LivingEntity;
@@ -35,7 +36,7 @@ public abstract class TntEntityMixin extends Entity {
             Selection<Entry<ClaimBox, Claim>> claimsFound = ClaimUtils.getClaimsAt(getWorld(), getBlockPos());
 
             if (!claimsFound.isEmpty()) {
-                boolean noPermission = claimsFound.anyMatch((Entry<ClaimBox, Claim> boxInfo) -> !boxInfo.getValue().hasPermission((PlayerEntity) causingEntity));
+                boolean noPermission = claimsFound.anyMatch((Entry<ClaimBox, Claim> boxInfo) -> !boxInfo.getValue().hasPermission((PlayerEntity) causingEntity, PermissionReason.AREA_PROTECTED));
 
                 if(noPermission) {
                     ci.cancel();
@@ -0,0 +1,46 @@
+package draylar.goml.other;
+
+import draylar.goml.api.Augment;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.Arrays;
+
+/**
+ * Spreads augment work of claims across ticks. Every claim gets a phase from least loaded bucket,
+ * which is then used to offset intervals of its augments, so claims don't run them in lockstep.
+ */
+@ApiStatus.Internal
+public final class AugmentScheduler {
+    /**
+     * Amount of buckets. Chosen to be divisible by most common intervals, so phases stay evenly spread for them.
+     */
+    public static final int PERIOD = 240;
+
+    private final int[] load = new int[PERIOD];
+
+    public int assign() {
+        int phase = 0;
+        for (int i = 1; i < PERIOD; i++) {
+            if (this.load[i] < this.load[phase]) {
+                phase = i;
+            }
+        }
+        this.load[phase]++;
+        return phase;
+    }
+
+    public void release(int phase) {
+        if (phase >= 0 && phase < PERIOD && this.load[phase] > 0) {
+            this.load[phase]--;
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(this.load, 0);
+    }
+
+    public static boolean isDue(Augment augment, long time, int phase) {
+        var interval = augment.getTickInterval();
+        return interval <= 1 || Math.floorMod(time + phase, interval) == 0;
+    }
+}
@@ -126,6 +126,10 @@ public class ClaimCommand {
                                     .requires(Permissions.require("goml.command.command.admin.general", 3))
                                     .executes(ClaimCommand::general)
                             )
+                            .then(literal("stats")
+                                    .requires(Permissions.require("goml.command.command.admin.stats", 3))
+                                    .executes(ClaimCommand::stats)
+                            )
                             .then(literal("remove")
                                     .requires(Permissions.require("goml.command.command.admin.remove", 3))
                                     .executes(ClaimCommand::remove)
@@ -245,7 +249,7 @@ public class ClaimCommand {
         server.getWorlds().forEach(world -> {
             var worldClaims = GetOffMyLawn.CLAIM.get(world).getClaims();
             int numberOfClaimsWorld = worldClaims.size();
-            numberOfClaimsTotal.addAndGet(1);
+            numberOfClaimsTotal.addAndGet(numberOfClaimsWorld);
 
             player.sendMessage(prefix(Text.translatable("text.goml.command.number_in", world.getRegistryKey().getValue(), numberOfClaimsWorld)), false);
         });
@@ -255,6 +259,26 @@ public class ClaimCommand {
         return 1;
     }
 
+    private static int stats(CommandContext<ServerCommandSource> context) {
+        var source = context.getSource();
+
+        for (var world : source.getServer().getWorlds()) {
+            var stats = GetOffMyLawn.CLAIM.get(world).internal_getTickStats();
+
+            source.sendFeedback(() -> prefix(Text.translatable("text.goml.command.stats",
+                    world.getRegistryKey().getValue().toString(),
+                    stats.claims(),
+                    stats.tickable(),
+                    stats.active(),
+                    stats.backlog(),
+                    stats.claimBacklog(),
+                    String.format("%.3f", stats.tickTime() / 1000000d)
+            )), false);
+        }
+
+        return 1;
+    }
+
     /**
      * Sends the player information about the claim they are standing in, if it exists.
      *
@@ -473,7 +497,7 @@ public class ClaimCommand {
 
                 if (claimedArea.getValue().isOwner(player)) {
                     if (owner) {
-                        claimedArea.getValue().getOwners().remove(toRemove.getId());
+                        claimedArea.getValue().removeOwner(toRemove.getId());
                     } else {
                         claimedArea.getValue().untrust(toRemove.getId());
                     }
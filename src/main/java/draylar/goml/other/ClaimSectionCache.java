@@ -0,0 +1,96 @@
+package draylar.goml.other;
+
+import com.jamieswhiteshirt.rtree3i.Box;
+import com.jamieswhiteshirt.rtree3i.RTreeMap;
+import draylar.goml.api.Claim;
+import draylar.goml.api.ClaimBox;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+
+/**
+ * Caches claims overlapping every queried chunk section, so frequent block level checks (fluids, fire)
+ * can be answered without querying claim tree. Whole cache is dropped whenever claims change.
+ */
+@ApiStatus.Internal
+public final class ClaimSectionCache {
+    private static final int MAX_SIZE = 16384;
+    private static final Section UNCLAIMED = new Section(new Claim[0], true);
+
+    private final Long2ObjectOpenHashMap<Section> sections = new Long2ObjectOpenHashMap<>();
+
+    public Section get(RTreeMap<ClaimBox, Claim> claims, BlockPos pos) {
+        var x = ChunkSectionPos.getSectionCoord(pos.getX());
+        var y = ChunkSectionPos.getSectionCoord(pos.getY());
+        var z = ChunkSectionPos.getSectionCoord(pos.getZ());
+        var key = ChunkSectionPos.asLong(x, y, z);
+
+        var section = this.sections.get(key);
+        if (section == null) {
+            if (this.sections.size() >= MAX_SIZE) {
+                this.sections.clear();
+            }
+            section = compute(claims, x, y, z);
+            this.sections.put(key, section);
+        }
+        return section;
+    }
+
+    public void clear() {
+        this.sections.clear();
+    }
+
+    private static Section compute(RTreeMap<ClaimBox, Claim> claims, int x, int y, int z) {
+        var minX = ChunkSectionPos.getBlockCoord(x);
+        var minY = ChunkSectionPos.getBlockCoord(y);
+        var minZ = ChunkSectionPos.getBlockCoord(z);
+        var sectionBox = Box.create(minX, minY, minZ, minX + 16, minY + 16, minZ + 16);
+
+        var found = new ArrayList<Claim>(1);
+        var uniform = new boolean[] { true };
+
+        claims.entries(box -> box.intersectsOpen(sectionBox)).forEach(entry -> {
+            found.add(entry.getValue());
+            if (!entry.getKey().toBox().contains(sectionBox)) {
+                uniform[0] = false;
+            }
+        });
+
+        return found.isEmpty() ? UNCLAIMED : new Section(found.toArray(new Claim[0]), uniform[0]);
+    }
+
+    /**
+     * @param claims  claims overlapping the section
+     * @param uniform true if every claim covers whole section, meaning all blocks in it are in the same claims
+     */
+    public record Section(Claim[] claims, boolean uniform) {
+        public boolean isUnclaimed() {
+            return this.claims.length == 0;
+        }
+
+        /**
+         * Returns claim covering whole section, if it's the only claim there.
+         */
+        @Nullable
+        public Claim getUniformClaim() {
+            return this.uniform && this.claims.length == 1 ? this.claims[0] : null;
+        }
+
+        public boolean isClaimed(BlockPos pos) {
+            if (this.uniform) {
+                return this.claims.length != 0;
+            }
+
+            for (var claim : this.claims) {
+                if (claim.getClaimBox().contains(pos)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package draylar.goml.other;
+
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Snapshot of claim ticking state of a single world, used by admin commands.
+ *
+ * @param claims   amount of claims in world
+ * @param tickable claims with augments and loaded chunks
+ * @param active   claims with players inside, ticked during last tick
+ * @param backlog  players which weren't updated last tick, because time budget was exceeded
+ * @param claimBacklog claim ticks deferred to next tick, because time budget was exceeded
+ * @param tickTime time spent ticking claims during last tick, in nanoseconds
+ */
+@ApiStatus.Internal
+public record ClaimTickStats(int claims, int tickable, int active, int backlog, int claimBacklog, long tickTime) {
+}
@@ -0,0 +1,17 @@
+package draylar.goml.other;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Implemented by hopper block entities. Keeps claims at hopper and at the containers it moves items from/to,
+ * so they only need to be looked up again after claims in the world change.
+ */
+@ApiStatus.Internal
+public interface ClaimTransferCache {
+    int INPUT = 0;
+    int OUTPUT = 1;
+
+    boolean goml$canTransfer(World world, BlockPos hopperPos, BlockPos target, int side);
+}
@@ -0,0 +1,85 @@
+package draylar.goml.other;
+
+import com.jamieswhiteshirt.rtree3i.Box;
+import draylar.goml.api.Claim;
+import draylar.goml.api.ClaimUtils;
+import draylar.goml.api.PermissionReason;
+import draylar.goml.api.event.ClaimEvents;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.util.ActionResult;
+import net.minecraft.util.Hand;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+
+/**
+ * Claim state resolved once per explosion. Claims within explosion's reach are queried up front together with
+ * their verdict, so checking affected blocks and entities only needs box containment checks.
+ * Matches {@link ClaimUtils#canExplosionDestroy(World, BlockPos, Entity)}.
+ */
+@ApiStatus.Internal
+public final class ExplosionClaimContext {
+    private final World world;
+    @Nullable
+    private final PlayerEntity player;
+    private final Claim[] claims;
+    private final boolean[] allowed;
+
+    private ExplosionClaimContext(World world, @Nullable PlayerEntity player, Claim[] claims, boolean[] allowed) {
+        this.world = world;
+        this.player = player;
+        this.claims = claims;
+        this.allowed = allowed;
+    }
+
+    public static ExplosionClaimContext create(World world, @Nullable Entity causingEntity, Vec3d center, double radius) {
+        var player = ClaimUtils.getExplosionPlayer(causingEntity);
+        var checkBox = Box.create(
+                MathHelper.floor(center.x - radius), MathHelper.floor(center.y - radius), MathHelper.floor(center.z - radius),
+                MathHelper.ceil(center.x + radius), MathHelper.ceil(center.y + radius), MathHelper.ceil(center.z + radius)
+        );
+
+        var found = new ArrayList<Claim>();
+        ClaimUtils.getClaimsInBox(world, checkBox).forEach(x -> found.add(x.getValue()));
+
+        var claims = found.toArray(new Claim[0]);
+        var allowed = new boolean[claims.length];
+        var admin = player != null && ClaimUtils.isInAdminMode(player);
+
+        for (int i = 0; i < claims.length; i++) {
+            allowed[i] = player != null ? admin || claims[i].hasPermission(player, PermissionReason.AREA_PROTECTED) : ClaimUtils.allowsExplosions(world, claims[i]);
+        }
+
+        return new ExplosionClaimContext(world, player, claims, allowed);
+    }
+
+    public boolean canDestroy(BlockPos pos) {
+        if (this.claims.length == 0) {
+            return true;
+        }
+
+        var claimed = false;
+        for (int i = 0; i < this.claims.length; i++) {
+            if (!this.claims[i].getClaimBox().contains(pos)) {
+                continue;
+            }
+
+            if (this.player == null) {
+                if (this.allowed[i]) {
+                    return true;
+                }
+                claimed = true;
+            } else if (!this.allowed[i]) {
+                return ClaimEvents.PERMISSION_DENIED.invoker().check(this.player, this.world, Hand.MAIN_HAND, pos, PermissionReason.AREA_PROTECTED) == ActionResult.SUCCESS;
+            }
+        }
+
+        return !claimed;
+    }
+}
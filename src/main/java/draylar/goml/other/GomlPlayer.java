@@ -6,4 +6,7 @@ import org.jetbrains.annotations.ApiStatus;
 public interface GomlPlayer {
     void goml_setAdminMode(boolean value);
     boolean goml_getAdminMode();
+    InteractionMemo goml_getInteractionMemo();
+    PlayerClaimPresence goml_getClaimPresence();
+    StatusEffectLeases goml_getEffectLeases();
 }
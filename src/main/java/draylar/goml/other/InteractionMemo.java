@@ -0,0 +1,60 @@
+package draylar.goml.other;
+
+import com.jamieswhiteshirt.rtree3i.RTreeMap;
+import draylar.goml.GetOffMyLawn;
+import draylar.goml.api.Claim;
+import draylar.goml.api.ClaimBox;
+import draylar.goml.api.ClaimUtils;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Short-lived, per player cache of claim lookups.
+ * <p>Single player action can trigger multiple protection callbacks for the same position within one tick,
+ * so they all share the result of the first query. Permissions are still checked for every callback.
+ * Cache is dropped once server tick, world or claim map changes.
+ */
+@ApiStatus.Internal
+public final class InteractionMemo {
+    private final Long2ObjectOpenHashMap<List<Claim>> claims = new Long2ObjectOpenHashMap<>();
+
+    private int tick = -1;
+    @Nullable
+    private World world;
+    @Nullable
+    private RTreeMap<ClaimBox, Claim> claimMap;
+
+    public List<Claim> getClaims(World world, BlockPos pos) {
+        this.validate(world);
+        var key = pos.asLong();
+        var list = this.claims.get(key);
+
+        if (list == null) {
+            var found = new ArrayList<Claim>();
+            ClaimUtils.getClaimsAt(world, pos).forEach(x -> found.add(x.getValue()));
+            list = found;
+            this.claims.put(key, list);
+        }
+
+        return list;
+    }
+
+    private void validate(World world) {
+        var map = GetOffMyLawn.CLAIM.get(world).getClaims();
+        // Server ticks keep advancing while world time is frozen
+        var tick = world.getServer() != null ? world.getServer().getTicks() : -1;
+
+        if (this.world != world || this.tick != tick || this.claimMap != map) {
+            this.world = world;
+            this.tick = tick;
+            this.claimMap = map;
+            this.claims.clear();
+        }
+    }
+}
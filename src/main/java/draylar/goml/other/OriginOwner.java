@@ -1,9 +1,30 @@
 package draylar.goml.other;
 
+import draylar.goml.api.Claim;
+import net.minecraft.entity.AreaEffectCloudEntity;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.FallingBlockEntity;
+import net.minecraft.entity.TntEntity;
+import net.minecraft.entity.decoration.EndCrystalEntity;
+import net.minecraft.entity.mob.EvokerFangsEntity;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.entity.projectile.ProjectileEntity;
+import net.minecraft.entity.vehicle.TntMinecartEntity;
 import net.minecraft.util.math.BlockPos;
 import org.jetbrains.annotations.Nullable;
 
 public interface OriginOwner {
+    /**
+     * Returns true for entities which origin is used by protection checks, as they can directly cause damage or place blocks.
+     * This includes every entity which can be a source of explosion, as explosion damage is resolved through its origin.
+     * Origins of other entities aren't saved.
+     */
+    static boolean isOriginRelevant(Entity entity) {
+        return entity instanceof ProjectileEntity || entity instanceof FallingBlockEntity || entity instanceof TntEntity
+                || entity instanceof TntMinecartEntity || entity instanceof EndCrystalEntity
+                || entity instanceof AreaEffectCloudEntity || entity instanceof EvokerFangsEntity || entity instanceof MobEntity;
+    }
+
     @Nullable
     BlockPos goml$getOrigin();
     void goml$setOrigin(BlockPos pos);
@@ -21,4 +42,10 @@ public interface OriginOwner {
     }
 
     void goml$tryFilling();
+
+    /**
+     * Returns claims at entity's origin, empty if it originates from unclaimed area.
+     * They are resolved once and reused, until origin changes or any of them gets destroyed.
+     */
+    Claim[] goml$getOriginClaims();
 }
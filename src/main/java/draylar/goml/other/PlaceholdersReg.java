@@ -3,6 +3,7 @@ package draylar.goml.other;
 import com.mojang.authlib.GameProfile;
 import draylar.goml.GetOffMyLawn;
 import draylar.goml.api.ClaimUtils;
+import draylar.goml.api.PermissionReason;
 import eu.pb4.placeholders.api.PlaceholderResult;
 import eu.pb4.placeholders.api.Placeholders;
 import eu.pb4.placeholders.api.TextParserUtils;
@@ -198,7 +199,7 @@ public class PlaceholdersReg {
 
 
                 return PlaceholderResult.value(Placeholders.parseText(
-                        claim.getValue().hasPermission(ctx.player()) ? canBuildText : cantBuildText,
+                        claim.getValue().hasPermission(ctx.player(), PermissionReason.BLOCK_PROTECTED) ? canBuildText : cantBuildText,
                         Placeholders.PREDEFINED_PLACEHOLDER_PATTERN,
                         Map.of("owners", Text.literal(String.join(", ", owners)),
                                 "owners_uuid", Text.literal(String.join(", ", ownersUuid)),
@@ -208,5 +209,29 @@ public class PlaceholdersReg {
                         )));
             }
         });
+
+        Placeholders.register(Identifier.of("goml", "claim_count"), (ctx, arg) -> {
+            if (!ctx.hasPlayer()) {
+                return PlaceholderResult.invalid("No player!");
+            }
+
+            return PlaceholderResult.value("" + ClaimUtils.getClaimCount(ctx.player().getWorld(), ctx.player().getUuid()));
+        });
+
+        Placeholders.register(Identifier.of("goml", "claim_count_total"), (ctx, arg) -> {
+            if (!ctx.hasPlayer()) {
+                return PlaceholderResult.invalid("No player!");
+            }
+
+            return PlaceholderResult.value("" + ClaimUtils.getClaimCount(ctx.server(), ctx.player().getUuid()));
+        });
+
+        Placeholders.register(Identifier.of("goml", "claimed_area"), (ctx, arg) -> {
+            if (!ctx.hasPlayer()) {
+                return PlaceholderResult.invalid("No player!");
+            }
+
+            return PlaceholderResult.value("" + ClaimUtils.getClaimedArea(ctx.server(), ctx.player().getUuid()));
+        });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,81 @@
+package draylar.goml.other;
+
+import draylar.goml.api.Claim;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Set;
+
+/**
+ * Keeps track of ticking claims player is currently inside of, so enter/exit events can be computed
+ * from player's point of view instead of checking every player for every claim.
+ */
+@ApiStatus.Internal
+public final class PlayerClaimPresence {
+    @Nullable
+    private ServerWorld world;
+    private Set<Claim> claims = new ReferenceOpenHashSet<>();
+    private Set<Claim> nextClaims = new ReferenceOpenHashSet<>();
+    private final Set<Claim> entered = new ReferenceOpenHashSet<>();
+
+    public boolean isEmpty() {
+        return this.claims.isEmpty();
+    }
+
+    public Set<Claim> getClaims() {
+        return this.claims;
+    }
+
+    /**
+     * Returns set to fill with claims player is inside of during current tick.
+     */
+    public Set<Claim> startUpdate(ServerPlayerEntity player, ServerWorld world) {
+        if (this.world != world) {
+            this.exitAll(player);
+            this.world = world;
+        }
+
+        this.nextClaims.clear();
+        return this.nextClaims;
+    }
+
+    /**
+     * Dispatches exit, enter and player tick events based on difference between previous and current claims.
+     */
+    public void finishUpdate(ServerPlayerEntity player) {
+        var previous = this.claims;
+        var current = this.nextClaims;
+
+        for (var claim : previous) {
+            if (!current.contains(claim)) {
+                claim.internal_onPlayerExit(player);
+            }
+        }
+
+        var entered = this.entered;
+        entered.clear();
+        for (var claim : current) {
+            if (claim.internal_onPlayerEnter(player)) {
+                entered.add(claim);
+            }
+        }
+
+        for (var claim : current) {
+            claim.internal_playerTick(player, entered.contains(claim));
+        }
+
+        this.claims = current;
+        this.nextClaims = previous;
+    }
+
+    public void exitAll(ServerPlayerEntity player) {
+        for (var claim : this.claims) {
+            claim.internal_onPlayerExit(player);
+        }
+        this.claims.clear();
+        this.world = null;
+    }
+}
@@ -0,0 +1,170 @@
+package draylar.goml.other;
+
+import draylar.goml.api.Claim;
+import draylar.goml.api.ClaimBox;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.entity.SpawnGroup;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.HeightLimitView;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per chunk masks of spawn groups blocked by claims. Sections fully covered by a claim store its mask directly,
+ * so most spawn attempts only need a map and an array lookup. Claims partially covering a chunk are checked against position.
+ */
+@ApiStatus.Internal
+public final class SpawnControlIndex {
+    private static final int MAX_INDEXED_CHUNKS = 1024;
+
+    private final HeightLimitView world;
+    private final Reference2ObjectOpenHashMap<Claim, Rule> rules = new Reference2ObjectOpenHashMap<>();
+    private final Long2ObjectOpenHashMap<ChunkMask> chunks = new Long2ObjectOpenHashMap<>();
+    private final List<Rule> largeRules = new ArrayList<>();
+
+    public SpawnControlIndex(HeightLimitView world) {
+        this.world = world;
+    }
+
+    public static int getMask(Iterable<SpawnGroup> groups) {
+        int mask = 0;
+        for (var group : groups) {
+            mask |= 1 << group.ordinal();
+        }
+        return mask;
+    }
+
+    public void set(Claim claim, int mask) {
+        this.remove(claim);
+        if (mask == 0) {
+            return;
+        }
+
+        var rule = new Rule(claim.getClaimBox(), mask);
+        this.rules.put(claim, rule);
+
+        var box = rule.box.toBox();
+        var minX = ChunkSectionPos.getSectionCoord(box.x1());
+        var minZ = ChunkSectionPos.getSectionCoord(box.z1());
+        var maxX = ChunkSectionPos.getSectionCoord(box.x2());
+        var maxZ = ChunkSectionPos.getSectionCoord(box.z2());
+
+        if ((long) (maxX - minX + 1) * (maxZ - minZ + 1) > MAX_INDEXED_CHUNKS) {
+            this.largeRules.add(rule);
+            return;
+        }
+
+        for (var x = minX; x <= maxX; x++) {
+            for (var z = minZ; z <= maxZ; z++) {
+                var chunk = this.chunks.computeIfAbsent(ChunkPos.toLong(x, z), k -> new ChunkMask());
+                chunk.rules.add(rule);
+                chunk.rebuild(this.world, x, z);
+            }
+        }
+    }
+
+    public void remove(Claim claim) {
+        var rule = this.rules.remove(claim);
+        if (rule == null || this.largeRules.remove(rule)) {
+            return;
+        }
+
+        var box = rule.box.toBox();
+        var minX = ChunkSectionPos.getSectionCoord(box.x1());
+        var minZ = ChunkSectionPos.getSectionCoord(box.z1());
+        var maxX = ChunkSectionPos.getSectionCoord(box.x2());
+        var maxZ = ChunkSectionPos.getSectionCoord(box.z2());
+
+        for (var x = minX; x <= maxX; x++) {
+            for (var z = minZ; z <= maxZ; z++) {
+                var key = ChunkPos.toLong(x, z);
+                var chunk = this.chunks.get(key);
+                if (chunk != null && chunk.rules.remove(rule)) {
+                    if (chunk.rules.isEmpty()) {
+                        this.chunks.remove(key);
+                    } else {
+                        chunk.rebuild(this.world, x, z);
+                    }
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        this.rules.clear();
+        this.chunks.clear();
+        this.largeRules.clear();
+    }
+
+    public boolean canSpawn(BlockPos pos, SpawnGroup group) {
+        var bit = 1 << group.ordinal();
+        var chunk = this.chunks.get(ChunkPos.toLong(ChunkSectionPos.getSectionCoord(pos.getX()), ChunkSectionPos.getSectionCoord(pos.getZ())));
+
+        if (chunk != null && (chunk.mask & bit) != 0) {
+            var section = this.world.getSectionIndex(pos.getY());
+            if (section >= 0 && section < chunk.sections.length && (chunk.sections[section] & bit) != 0) {
+                return false;
+            }
+
+            for (var rule : chunk.rules) {
+                if ((rule.mask & bit) != 0 && rule.box.contains(pos)) {
+                    return false;
+                }
+            }
+        }
+
+        for (var rule : this.largeRules) {
+            if ((rule.mask & bit) != 0 && rule.box.contains(pos)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static final class Rule {
+        private final ClaimBox box;
+        private final int mask;
+
+        private Rule(ClaimBox box, int mask) {
+            this.box = box;
+            this.mask = mask;
+        }
+    }
+
+    private static final class ChunkMask {
+        private final List<Rule> rules = new ArrayList<>(1);
+        private int[] sections = new int[0];
+        private int mask;
+
+        private void rebuild(HeightLimitView world, int chunkX, int chunkZ) {
+            var sections = new int[world.countVerticalSections()];
+            var mask = 0;
+            var minX = ChunkSectionPos.getBlockCoord(chunkX);
+            var minZ = ChunkSectionPos.getBlockCoord(chunkZ);
+
+            for (var rule : this.rules) {
+                mask |= rule.mask;
+                var box = rule.box.toBox();
+                if (box.x1() > minX || box.x2() < minX + 16 || box.z1() > minZ || box.z2() < minZ + 16) {
+                    continue;
+                }
+
+                for (var i = 0; i < sections.length; i++) {
+                    var minY = ChunkSectionPos.getBlockCoord(world.sectionIndexToCoord(i));
+                    if (box.y1() <= minY && box.y2() >= minY + 16) {
+                        sections[i] |= rule.mask;
+                    }
+                }
+            }
+
+            this.sections = sections;
+            this.mask = mask;
+        }
+    }
+}
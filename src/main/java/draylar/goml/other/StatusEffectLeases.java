@@ -0,0 +1,77 @@
+package draylar.goml.other;
+
+import draylar.goml.api.Claim;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.entity.effect.StatusEffect;
+import net.minecraft.entity.effect.StatusEffectInstance;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.registry.entry.RegistryEntry;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tracks status effects granted to a player by claims. Effects are applied with a long duration
+ * and only refreshed when close to running out, instead of being reapplied every tick.
+ * An effect is removed once the last claim granting it revokes it, but only if the player still has
+ * the exact instance applied by the lease (so effects from potions or beacons are left alone).
+ */
+@ApiStatus.Internal
+public final class StatusEffectLeases {
+    public static final int DURATION = 600;
+    public static final int REFRESH_BELOW = 200;
+
+    private final Map<RegistryEntry<StatusEffect>, Lease> leases = new Reference2ObjectOpenHashMap<>();
+
+    public static void grant(PlayerEntity player, Claim source, RegistryEntry<StatusEffect> effect, int amplifier) {
+        if (player instanceof GomlPlayer gomlPlayer) {
+            gomlPlayer.goml_getEffectLeases().grantInternal(player, source, effect, amplifier);
+        }
+    }
+
+    public static void revoke(PlayerEntity player, Claim source, RegistryEntry<StatusEffect> effect) {
+        if (player instanceof GomlPlayer gomlPlayer) {
+            gomlPlayer.goml_getEffectLeases().revokeInternal(player, source, effect);
+        }
+    }
+
+    private void grantInternal(PlayerEntity player, Claim source, RegistryEntry<StatusEffect> effect, int amplifier) {
+        var lease = this.leases.get(effect);
+        if (lease == null) {
+            lease = new Lease();
+            this.leases.put(effect, lease);
+        }
+        lease.sources.add(source);
+
+        var current = player.getStatusEffect(effect);
+        if (current == null || (!current.isInfinite() && current.getDuration() < REFRESH_BELOW)) {
+            var owned = current != null && current == lease.instance;
+            var instance = new StatusEffectInstance(effect, DURATION, amplifier, true, false);
+            player.addStatusEffect(instance);
+            // Effect gets merged into already existing instance, which is only owned by the lease if it applied it before
+            var result = player.getStatusEffect(effect);
+            lease.instance = result == instance || (owned && result == current) ? result : null;
+        }
+    }
+
+    private void revokeInternal(PlayerEntity player, Claim source, RegistryEntry<StatusEffect> effect) {
+        var lease = this.leases.get(effect);
+        if (lease == null || !lease.sources.remove(source) || !lease.sources.isEmpty()) {
+            return;
+        }
+
+        this.leases.remove(effect);
+        if (lease.instance != null && player.getStatusEffect(effect) == lease.instance) {
+            player.removeStatusEffect(effect);
+        }
+    }
+
+    private static final class Lease {
+        private final Set<Claim> sources = new ReferenceOpenHashSet<>(2);
+        @Nullable
+        private StatusEffectInstance instance;
+    }
+}
@@ -0,0 +1,264 @@
+package draylar.goml.other;
+
+import draylar.goml.GetOffMyLawn;
+import draylar.goml.api.ScheduledTask;
+import draylar.goml.api.ScheduledTaskType;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtList;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel used for delayed claim callbacks. Each level has 64 slots, with every slot
+ * of a level covering whole lower level. Tasks are moved to lower levels as their time approaches,
+ * so scheduling and cancelling are O(1) and every tick only looks at tasks that are due.
+ */
+@ApiStatus.Internal
+public final class TimingWheel {
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long RANGE = 1L << (BITS * LEVELS);
+    private static final int OVERFLOW = LEVELS * SLOTS;
+
+    private final Task[] buckets = new Task[OVERFLOW + 1];
+    private final ArrayList<Task> processed = new ArrayList<>();
+    private long time;
+    private int size;
+
+    public int size() {
+        return this.size;
+    }
+
+    public ScheduledTask schedule(long delay, Consumer<ServerWorld> callback) {
+        return this.add(new Task(this, this.time + Math.max(delay, 1), callback, null, null));
+    }
+
+    public ScheduledTask schedule(long delay, ScheduledTaskType type, NbtCompound data) {
+        return this.add(new Task(this, this.time + Math.max(delay, 1), null, type.id(), data));
+    }
+
+    private Task add(Task task) {
+        this.size++;
+        this.insert(task);
+        return task;
+    }
+
+    public void tick(ServerWorld world) {
+        var time = ++this.time;
+
+        if ((time & (RANGE - 1)) == 0) {
+            this.cascade(OVERFLOW);
+        }
+
+        // Higher levels go first, so tasks can move down multiple levels within same tick
+        for (int level = LEVELS - 1; level > 0; level--) {
+            if ((time & ((1L << (BITS * level)) - 1)) == 0) {
+                this.cascade(level * SLOTS + (int) ((time >> (BITS * level)) & MASK));
+            }
+        }
+
+        var due = this.detach((int) (time & MASK));
+
+        for (var task : due) {
+            if (!task.active) {
+                continue;
+            }
+
+            if (task.deadline > time) {
+                this.insert(task);
+                continue;
+            }
+
+            task.active = false;
+            this.size--;
+            try {
+                task.run(world);
+            } catch (Throwable e) {
+                GetOffMyLawn.LOGGER.error("Exception while running scheduled claim task!", e);
+            }
+        }
+        due.clear();
+    }
+
+    private void cascade(int index) {
+        var tasks = this.detach(index);
+        for (var task : tasks) {
+            if (task.active) {
+                this.insert(task);
+            }
+        }
+        tasks.clear();
+    }
+
+    private ArrayList<Task> detach(int index) {
+        var list = this.processed;
+        var task = this.buckets[index];
+        this.buckets[index] = null;
+
+        while (task != null) {
+            var next = task.next;
+            task.index = -1;
+            task.prev = null;
+            task.next = null;
+            list.add(task);
+            task = next;
+        }
+
+        return list;
+    }
+
+    private void insert(Task task) {
+        var delay = task.deadline - this.time;
+        int index;
+
+        if (delay < SLOTS) {
+            index = (int) (task.deadline & MASK);
+        } else if (delay >= RANGE) {
+            index = OVERFLOW;
+        } else {
+            var level = 1;
+            while (delay >= (1L << (BITS * (level + 1)))) {
+                level++;
+            }
+            index = level * SLOTS + (int) ((task.deadline >> (BITS * level)) & MASK);
+        }
+
+        var head = this.buckets[index];
+        task.index = index;
+        task.next = head;
+        if (head != null) {
+            head.prev = task;
+        }
+        this.buckets[index] = task;
+    }
+
+    private void unlink(Task task) {
+        if (task.index == -1) {
+            return;
+        }
+
+        if (task.prev != null) {
+            task.prev.next = task.next;
+        } else {
+            this.buckets[task.index] = task.next;
+        }
+
+        if (task.next != null) {
+            task.next.prev = task.prev;
+        }
+
+        task.index = -1;
+        task.prev = null;
+        task.next = null;
+    }
+
+    public void clear() {
+        for (int i = 0; i < this.buckets.length; i++) {
+            var task = this.buckets[i];
+            while (task != null) {
+                task.active = false;
+                task.index = -1;
+                task = task.next;
+            }
+            this.buckets[i] = null;
+        }
+        this.size = 0;
+    }
+
+    public NbtList writeNbt() {
+        var list = new NbtList();
+
+        for (var task : this.buckets) {
+            while (task != null) {
+                if (task.type != null) {
+                    var nbt = new NbtCompound();
+                    nbt.putString("Type", task.type.toString());
+                    nbt.put("Data", task.data);
+                    nbt.putLong("Delay", task.deadline - this.time);
+                    list.add(nbt);
+                }
+                task = task.next;
+            }
+        }
+
+        return list;
+    }
+
+    public void readNbt(NbtList list) {
+        this.clear();
+
+        for (int i = 0; i < list.size(); i++) {
+            var nbt = list.getCompound(i);
+            var type = Identifier.tryParse(nbt.getString("Type"));
+
+            if (type != null) {
+                this.add(new Task(this, this.time + Math.max(nbt.getLong("Delay"), 1), null, type, nbt.getCompound("Data")));
+            }
+        }
+    }
+
+    private static final class Task implements ScheduledTask {
+        private final TimingWheel wheel;
+        private final long deadline;
+        @Nullable
+        private final Consumer<ServerWorld> callback;
+        @Nullable
+        private final Identifier type;
+        @Nullable
+        private final NbtCompound data;
+
+        private boolean active = true;
+        private int index = -1;
+        @Nullable
+        private Task prev;
+        @Nullable
+        private Task next;
+
+        private Task(TimingWheel wheel, long deadline, @Nullable Consumer<ServerWorld> callback, @Nullable Identifier type, @Nullable NbtCompound data) {
+            this.wheel = wheel;
+            this.deadline = deadline;
+            this.callback = callback;
+            this.type = type;
+            this.data = data;
+        }
+
+        private void run(ServerWorld world) {
+            if (this.callback != null) {
+                this.callback.accept(world);
+            } else if (this.type != null) {
+                var type = ScheduledTaskType.get(this.type);
+                if (type != null) {
+                    type.handler().run(world, this.data);
+                } else {
+                    GetOffMyLawn.LOGGER.warn("Skipping scheduled claim task of unknown type '{}'!", this.type);
+                }
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (this.active) {
+                this.active = false;
+                this.wheel.size--;
+                this.wheel.unlink(this);
+            }
+        }
+
+        @Override
+        public boolean isActive() {
+            return this.active;
+        }
+
+        @Override
+        public long getRemainingTicks() {
+            return this.active ? Math.max(this.deadline - this.wheel.time, 0) : 0;
+        }
+    }
+}
@@ -128,6 +128,11 @@ public class VanillaTeamGroups {
             return true;
         }
 
+        @Override
+        public boolean reportsMembershipChanges() {
+            return true;
+        }
+
         @Override
         public List<Member> getMembers() {
             List<Member> list = new ArrayList<>();
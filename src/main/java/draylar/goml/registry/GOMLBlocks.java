@@ -47,6 +47,7 @@ public class GOMLBlocks {
     public static final Pair<ClaimAugmentBlock, Item> EXPLOSION_CONTROLLER = register("explosion_controller", (s) -> new ExplosionControllerAugmentBlock(s.hardness(10).resistance(3600000.0F), GOMLTextures.EXPLOSION_CONTROLLER), 2);
 
     public static final Pair<ClaimAugmentBlock, Item> FORCE_FIELD = register("force_field", (s) -> new ForceFieldAugmentBlock(s.hardness(10).resistance(3600000.0F), GOMLTextures.FORCE_FIELD), 2);
+    public static final Pair<ClaimAugmentBlock, Item> SPAWN_CONTROLLER = register("spawn_controller", (s) -> new SpawnControllerAugmentBlock(s.hardness(10).resistance(3600000.0F), GOMLTextures.SPAWN_CONTROLLER), 2);
 
     private static Pair<ClaimAnchorBlock, Item> register(String name, IntSupplier radius, float hardness, String texture) {
         var id = GetOffMyLawn.id(name);
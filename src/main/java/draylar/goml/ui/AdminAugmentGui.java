@@ -8,13 +8,11 @@ import eu.pb4.sgui.api.elements.GuiElementBuilder;
 import eu.pb4.sgui.api.gui.SimpleGui;
 import net.minecraft.component.DataComponentTypes;
 import net.minecraft.item.Items;
-import net.minecraft.registry.RegistryKeys;
 import net.minecraft.screen.ScreenHandlerType;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.text.Style;
 import net.minecraft.text.Text;
 import net.minecraft.registry.Registry;
-import net.minecraft.registry.RegistryKey;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.stream.Collectors;
@@ -67,12 +65,12 @@ public class AdminAugmentGui extends SimpleGui {
                 .setName(Text.translatable("text.goml.apply"))
                 .setCallback((i, a, c, g) -> {
                     PagedGui.playClickSound(this.player);
+                    // Resizing by admins deliberately ignores claimed area limits of owners, same as admin mode does
                     GetOffMyLawn.CLAIM.get(claim.getWorldInstance(player.server)).remove(this.claim);
                     var oldSize = claim.getClaimBox();
                     this.claimBox = new ClaimBox(this.claimBox.getOrigin(), this.claimRadius, this.claimHeight, this.claimBox.noShift());
                     claim.internal_setClaimBox(this.claimBox);
                     GetOffMyLawn.CLAIM.get(claim.getWorldInstance(player.server)).add(this.claim);
-                    claim.internal_updateChunkCount(player.getServer().getWorld(RegistryKey.of(RegistryKeys.WORLD, this.claim.getWorld())));
                     ClaimEvents.CLAIM_RESIZED.invoker().onResizeEvent(claim, oldSize, this.claimBox);
                 })
         );
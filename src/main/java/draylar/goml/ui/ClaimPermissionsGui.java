@@ -0,0 +1,90 @@
+package draylar.goml.ui;
+
+import draylar.goml.api.Claim;
+import draylar.goml.api.ClaimRole;
+import draylar.goml.api.PermissionReason;
+import eu.pb4.sgui.api.elements.GuiElementBuilder;
+import eu.pb4.sgui.api.gui.SimpleGui;
+import net.minecraft.item.Item;
+import net.minecraft.item.Items;
+import net.minecraft.screen.ScreenHandlerType;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.text.Text;
+import net.minecraft.util.Formatting;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+@ApiStatus.Internal
+public class ClaimPermissionsGui extends SimpleGui {
+    private static final ClaimRole[] EDITABLE_ROLES = new ClaimRole[] { ClaimRole.TRUSTED, ClaimRole.GROUP, ClaimRole.PUBLIC };
+
+    private final Claim claim;
+    private final boolean canModify;
+    @Nullable
+    private final Runnable onClose;
+
+    public ClaimPermissionsGui(ServerPlayerEntity player, Claim claim, boolean canModify, @Nullable Runnable onClose) {
+        super(ScreenHandlerType.GENERIC_9X5, player, false);
+        this.claim = claim;
+        this.canModify = canModify;
+        this.onClose = onClose;
+        this.setTitle(Text.translatable("text.goml.gui.permissions.title"));
+
+        for (int i = 0; i < this.getSize(); i++) {
+            this.setSlot(i, PagedGui.DisplayElement.filler().element());
+        }
+
+        this.updateDisplay();
+        this.open();
+    }
+
+    private void updateDisplay() {
+        var reasons = PermissionReason.values();
+
+        for (int y = 0; y < reasons.length; y++) {
+            var reason = reasons[y];
+
+            this.setSlot(y * 9 + 1, new GuiElementBuilder(getIcon(reason))
+                    .setName(reason.getDisplayName().copy().formatted(Formatting.WHITE))
+                    .hideDefaultTooltip()
+            );
+
+            for (int x = 0; x < EDITABLE_ROLES.length; x++) {
+                var role = EDITABLE_ROLES[x];
+                var allowed = this.claim.isAllowed(reason, role);
+
+                var builder = new GuiElementBuilder(allowed ? Items.LIME_STAINED_GLASS_PANE : Items.RED_STAINED_GLASS_PANE)
+                        .setName(Text.translatable("text.goml.gui.permissions.toggle", role.getDisplayName(),
+                                Text.translatable("text.goml.mode." + (allowed ? "enabled" : "disabled"))).formatted(Formatting.WHITE));
+
+                if (this.canModify) {
+                    builder.addLoreLine(Text.translatable("text.goml.mode_toggle.help").formatted(Formatting.GRAY));
+                    builder.setCallback((i, a, c, g) -> {
+                        PagedGui.playClickSound(this.player);
+                        this.claim.setAllowed(reason, role, !this.claim.isAllowed(reason, role));
+                        this.updateDisplay();
+                    });
+                }
+
+                this.setSlot(y * 9 + 3 + x * 2, builder);
+            }
+        }
+    }
+
+    private static Item getIcon(PermissionReason reason) {
+        return switch (reason) {
+            case BLOCK_PROTECTED -> Items.IRON_PICKAXE;
+            case ENTITY_PROTECTED -> Items.LEAD;
+            case AREA_PROTECTED -> Items.FLINT_AND_STEEL;
+            case CONTAINER_PROTECTED -> Items.CHEST;
+            case DOOR_PROTECTED -> Items.OAK_DOOR;
+        };
+    }
+
+    @Override
+    public void onClose() {
+        if (this.onClose != null) {
+            this.onClose.run();
+        }
+    }
+}